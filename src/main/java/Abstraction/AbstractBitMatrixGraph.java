@@ -0,0 +1,202 @@
+package Abstraction;
+
+import Nodes.AbstractNode;
+
+public abstract class AbstractBitMatrixGraph<A extends AbstractNode> implements IGraph {
+
+    //--------------------------------------------------
+    // 				Class variables
+    //--------------------------------------------------
+
+    protected int order;		// Number of vertices
+    protected int m = 0;		// Number of edges/arcs
+    protected int words;		// Number of 64-bit words per row
+    protected long[][] rows;	// The adjacency matrix, bit j of row i is bit (j & 63) of rows[i][j >> 6]
+
+    //--------------------------------------------------
+    // 				Constructors
+    //--------------------------------------------------
+
+    public AbstractBitMatrixGraph() {
+        this(0);
+    }
+
+    public AbstractBitMatrixGraph(int order) {
+        this.order = order;
+        this.words = (order + 63) >>> 6;
+        this.rows = new long[order][this.words];
+        this.m = 0;
+    }
+
+    // ------------------------------------------
+    // 		Accessors
+    // ------------------------------------------
+
+    /**
+     * Returns the rows of the bit matrix
+     */
+    public long[][] getRows() {
+        return this.rows;
+    }
+
+    /**
+     * Returns the number of nodes in the graph (referred to as the order of the graph)
+     */
+    public int getNbNodes() {
+        return this.order;
+    }
+
+    // ------------------------------------------
+    // 		Methods
+    // ------------------------------------------
+
+    /**
+     * @return true if bit (i,j) is set, false if it is not or if i or j is out of bounds
+     */
+    protected boolean testBit(int i, int j) {
+        if (i < 0 || j < 0 || i >= this.order || j >= this.order) {
+            return false;
+        }
+        return (this.rows[i][j >>> 6] & (1L << j)) != 0;
+    }
+
+    /**
+     * Sets bit (i,j)
+     * @return true if it was not set yet
+     */
+    protected boolean setBit(int i, int j) {
+        long before = this.rows[i][j >>> 6];
+        this.rows[i][j >>> 6] = before | (1L << j);
+        return (before & (1L << j)) == 0;
+    }
+
+    /**
+     * Clears bit (i,j)
+     * @return true if it was set
+     */
+    protected boolean clearBit(int i, int j) {
+        long before = this.rows[i][j >>> 6];
+        this.rows[i][j >>> 6] = before & ~(1L << j);
+        return (before & (1L << j)) != 0;
+    }
+
+    /**
+     * @return the number of bits set in row i, with a popcount per word
+     */
+    protected int rowCardinality(int i) {
+        int count = 0;
+        for (long word : this.rows[i]) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * @return the indexes of the bits set in row i, found by bit-scanning each word
+     */
+    protected int[] rowIndexes(int i) {
+        int[] indexes = new int[this.rowCardinality(i)];
+        int k = 0;
+        long[] row = this.rows[i];
+        for (int w = 0; w < this.words; w++) {
+            long word = row[w];
+            while (word != 0) {
+                indexes[k++] = (w << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * Transposes the bit matrix 64x64 blocks at a time. Complexity: O(n²/64 * log(64)) word operations
+     * @return the rows of the transposed matrix
+     */
+    protected long[][] transposeRows() {
+        long[][] transposed = new long[this.order][this.words];
+        long[] block = new long[64];
+        for (int bi = 0; bi < this.words; bi++) {
+            for (int bj = 0; bj < this.words; bj++) {
+                for (int r = 0; r < 64; r++) {
+                    int i = (bi << 6) + r;
+                    block[r] = i < this.order ? this.rows[i][bj] : 0L;
+                }
+                transpose64(block);
+                for (int c = 0; c < 64; c++) {
+                    int j = (bj << 6) + c;
+                    if (j < this.order) {
+                        transposed[j][bi] = block[c];
+                    }
+                }
+            }
+        }
+        return transposed;
+    }
+
+    /**
+     * In-place transposition of a 64x64 bit block: bit c of a[r] becomes bit r of a[c].
+     * Off-diagonal halves are swapped recursively (32x32, then 16x16, ... then 1x1 blocks).
+     */
+    private static void transpose64(long[] a) {
+        long mask = 0x00000000FFFFFFFFL;
+        for (int j = 32; j != 0; j >>>= 1, mask ^= (mask << j)) {
+            for (int k = 0; k < 64; k = ((k | j) + 1) & ~j) {
+                long t = ((a[k] >>> j) ^ a[k | j]) & mask;
+                a[k | j] ^= t;
+                a[k] ^= t << j;
+            }
+        }
+    }
+
+    /**
+     * @return the number of bits set in row x, with a popcount per word
+     */
+    @Override
+    public int getDegree(int x) {
+        return this.rowCardinality(x);
+    }
+
+    /**
+     * Reports the arcs of row x by bit-scanning its words, the cost is always 0
+     */
+    @Override
+    public void forEachArcFrom(int x, IntIntIntConsumer consumer) {
+        long[] row = this.rows[x];
+        for (int w = 0; w < this.words; w++) {
+            long word = row[w];
+            while (word != 0) {
+                consumer.accept(x, (w << 6) + Long.numberOfTrailingZeros(word), 0);
+                word &= word - 1;
+            }
+        }
+    }
+
+    /**
+     * @return the adjacency matrix representation int[][] of the graph
+     */
+    @Override
+    public int[][] toAdjacencyMatrix() {
+        int[][] matrix = new int[this.order][this.order];
+        for (int i = 0; i < this.order; i++) {
+            for (int j : this.rowIndexes(i)) {
+                matrix[i][j] = 1;
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * Checks that a matrix describes a simple graph (every cell is 0 or 1)
+     * @throws IllegalArgumentException otherwise, since a bit matrix cannot store multiplicities
+     */
+    protected static void checkSimple(int[][] matrix) {
+        for (int[] line : matrix) {
+            for (int v : line) {
+                if (v != 0 && v != 1) {
+                    throw new IllegalArgumentException("A bit matrix graph must be simple and not valued, found cell value " + v);
+                }
+            }
+        }
+    }
+
+}
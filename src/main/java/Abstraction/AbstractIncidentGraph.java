@@ -1,4 +1,188 @@
 package Abstraction;
 
-public abstract class AbstractIncidentGraph {
+import Nodes.AbstractNode;
+
+import java.util.Arrays;
+
+/**
+ * Compressed incidence structure: instead of a dense n*m incidence matrix, each edge id stores its two
+ * ends, and each node stores the ids of its incident edges. Edge ids are stable: removing an edge frees
+ * its id without renumbering the others. All arrays grow by doubling.
+ */
+public abstract class AbstractIncidentGraph<A extends AbstractNode> implements IGraph {
+
+    //--------------------------------------------------
+    // 				Class variables
+    //--------------------------------------------------
+
+    protected int order;            // Number of vertices
+    protected int m;                // Number of edges currently in the graph
+    protected int nbEdgeIds;        // Number of edge ids ever given, removed ones included
+    protected int[] firstEnds;      // firstEnds[e] is one end of edge e, -1 if e was removed
+    protected int[] secondEnds;     // secondEnds[e] is the other end of edge e, -1 if e was removed
+    protected int[][] incidences;   // incidences[x][0..degrees[x]-1] are the ids of the edges incident to x
+    protected int[] degrees;        // degrees[x] is the number of edges incident to x (a loop counts once)
+
+    //--------------------------------------------------
+    // 				Constructors
+    //--------------------------------------------------
+
+    public AbstractIncidentGraph() {
+        this(0);
+    }
+
+    public AbstractIncidentGraph(int order) {
+        this.order = order;
+        this.m = 0;
+        this.nbEdgeIds = 0;
+        this.firstEnds = new int[4];
+        this.secondEnds = new int[4];
+        this.incidences = new int[order][];
+        this.degrees = new int[order];
+        for (int x = 0; x < order; x++) {
+            this.incidences[x] = new int[2];
+        }
+    }
+
+    // ------------------------------------------
+    // 		Accessors
+    // ------------------------------------------
+
+    /**
+     * Returns the number of nodes in the graph (referred to as the order of the graph)
+     */
+    public int getNbNodes() {
+        return this.order;
+    }
+
+    /**
+     * @return an upper bound (exclusive) of the edge ids, removed edges included
+     */
+    public int getNbEdgeIds() {
+        return this.nbEdgeIds;
+    }
+
+    /**
+     * @return true if e is the id of an edge of the graph. Complexity: O(1)
+     */
+    public boolean containsEdgeId(int e) {
+        return e >= 0 && e < this.nbEdgeIds && this.firstEnds[e] != -1;
+    }
+
+    /**
+     * @return one end of edge e, -1 if e was removed. Complexity: O(1)
+     */
+    public int getFirstEnd(int e) {
+        return this.firstEnds[e];
+    }
+
+    /**
+     * @return the other end of edge e, -1 if e was removed. Complexity: O(1)
+     */
+    public int getSecondEnd(int e) {
+        return this.secondEnds[e];
+    }
+
+    /**
+     * @return the end of edge e which is not x (x itself for a loop)
+     */
+    public int getOppositeEnd(int e, int x) {
+        return this.firstEnds[e] == x ? this.secondEnds[e] : this.firstEnds[e];
+    }
+
+    /**
+     * @return the number of edges incident to the node labelled x
+     */
+    public int getIncidenceDegree(int x) {
+        return this.degrees[x];
+    }
+
+    /**
+     * @return the id of the k-th edge incident to the node labelled x, 0 <= k < getIncidenceDegree(x)
+     */
+    public int getIncidentEdge(int x, int k) {
+        return this.incidences[x][k];
+    }
+
+    // ------------------------------------------
+    // 		Methods
+    // ------------------------------------------
+
+    /**
+     * Adds an edge between x and y (parallel edges and loops are allowed). Amortised complexity: O(1)
+     * @return the id of the new edge
+     */
+    protected int insertEdge(int x, int y) {
+        if (this.nbEdgeIds == this.firstEnds.length) {
+            int capacity = this.firstEnds.length * 2;
+            this.firstEnds = Arrays.copyOf(this.firstEnds, capacity);
+            this.secondEnds = Arrays.copyOf(this.secondEnds, capacity);
+        }
+        int e = this.nbEdgeIds++;
+        this.firstEnds[e] = x;
+        this.secondEnds[e] = y;
+        this.appendIncidence(x, e);
+        if (x != y) {
+            this.appendIncidence(y, e);
+        }
+        this.m++;
+        return e;
+    }
+
+    /**
+     * Removes edge e, its id is not reused. Complexity: O(d(x)+d(y)) for the ends x and y of e
+     * @return true if e was an edge of the graph
+     */
+    protected boolean deleteEdge(int e) {
+        if (!this.containsEdgeId(e)) {
+            return false;
+        }
+        int x = this.firstEnds[e];
+        int y = this.secondEnds[e];
+        this.dropIncidence(x, e);
+        if (x != y) {
+            this.dropIncidence(y, e);
+        }
+        this.firstEnds[e] = -1;
+        this.secondEnds[e] = -1;
+        this.m--;
+        return true;
+    }
+
+    /**
+     * Scans the incidences of the end with the smallest degree. Complexity: O(min(d(x),d(y)))
+     * @return the id of an edge between x and y, or -1 if there is none
+     */
+    protected int findEdge(int x, int y) {
+        if (x < 0 || y < 0 || x >= this.order || y >= this.order) {
+            return -1;
+        }
+        int from = this.degrees[x] <= this.degrees[y] ? x : y;
+        int to = from == x ? y : x;
+        for (int k = 0; k < this.degrees[from]; k++) {
+            int e = this.incidences[from][k];
+            if (this.getOppositeEnd(e, from) == to) {
+                return e;
+            }
+        }
+        return -1;
+    }
+
+    private void appendIncidence(int x, int e) {
+        if (this.degrees[x] == this.incidences[x].length) {
+            this.incidences[x] = Arrays.copyOf(this.incidences[x], this.incidences[x].length * 2);
+        }
+        this.incidences[x][this.degrees[x]++] = e;
+    }
+
+    private void dropIncidence(int x, int e) {
+        int[] inc = this.incidences[x];
+        for (int k = 0; k < this.degrees[x]; k++) {
+            if (inc[k] == e) {
+                inc[k] = inc[--this.degrees[x]];
+                return;
+            }
+        }
+    }
+
 }
@@ -10,6 +10,11 @@ public interface IDirectedGraph extends IGraph {
  	 */
 	int getNbArcs();
 
+	/**
+	 * @return the number of arcs entering the node labelled x
+	 */
+	int getInDegree(int x);
+
 	/**
 	 * @return true if arc (from,to) exists in the graph
  	 */
@@ -11,4 +11,28 @@ public interface IGraph {
  	 */
 	int[][] toAdjacencyMatrix();
 
+	/**
+	 * @return the number of arcs leaving the node labelled x (its degree for an undirected graph),
+	 * that is the number of calls made by forEachArcFrom(x, ...)
+	 */
+	int getDegree(int x);
+
+	/**
+	 * Calls consumer.accept(x, y, cost) for every arc (x,y) leaving the node labelled x.
+	 * For an undirected graph, every edge incident to x is reported as an arc (x,y).
+	 * Parallel arcs are reported once per copy, and the cost is 0 for a non valued graph.
+	 */
+	void forEachArcFrom(int x, IntIntIntConsumer consumer);
+
+	/**
+	 * Calls consumer.accept(x, y, cost) for every arc of the graph, node by node, without building
+	 * the adjacency matrix. An undirected edge (x,y) is reported twice, as (x,y) and (y,x), and a loop once.
+	 * Complexity: O(n+m) for the list, incidence and CSR representations
+	 */
+	default void forEachArc(IntIntIntConsumer consumer) {
+		for (int x = 0; x < this.getNbNodes(); x++) {
+			this.forEachArcFrom(x, consumer);
+		}
+	}
+
 }
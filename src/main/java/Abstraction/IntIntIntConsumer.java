@@ -0,0 +1,15 @@
+package Abstraction;
+
+/**
+ * Callback receiving an arc (from,to) and its value, without boxing
+ */
+@FunctionalInterface
+public interface IntIntIntConsumer {
+
+	/**
+	 * @param from the label of the tail of the arc
+	 * @param to the label of the head of the arc
+	 * @param value the cost of the arc, 0 for a non valued graph
+	 */
+	void accept(int from, int to, int value);
+}
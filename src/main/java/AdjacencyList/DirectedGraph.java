@@ -2,8 +2,10 @@ package AdjacencyList;
 
 import Abstraction.AbstractListGraph;
 import Abstraction.IDirectedGraph;
+import Abstraction.IntIntIntConsumer;
 import GraphAlgorithms.GraphTools;
 import Nodes.DirectedNode;
+import Nodes.NeighbourMap;
 
 import java.util.*;
 import java.util.function.BiFunction;
@@ -31,8 +33,8 @@ public class DirectedGraph extends AbstractListGraph<DirectedNode> implements ID
             for (int j = 0; j < matrix[n.getLabel()].length; j++) {
             	DirectedNode nn = this.getNodes().get(j);
                 if (matrix[n.getLabel()][j] != 0) {
-                    n.getSuccs().put(nn,0);
-                    nn.getPreds().put(n,0);
+                    n.addSucc(nn,0);
+                    nn.addPred(n,0);
                     this.m++;
                 }
             }
@@ -51,8 +53,8 @@ public class DirectedGraph extends AbstractListGraph<DirectedNode> implements ID
         	DirectedNode nn = this.getNodes().get(n.getLabel());
             for (DirectedNode sn : n.getSuccs().keySet()) {
                 DirectedNode snn = this.getNodes().get(sn.getLabel());
-                nn.getSuccs().put(snn,0);
-                snn.getPreds().put(nn,0);
+                nn.addSucc(snn,0);
+                snn.addPred(nn,0);
             }
         }
 
@@ -67,17 +69,27 @@ public class DirectedGraph extends AbstractListGraph<DirectedNode> implements ID
         return this.m;
     }
 
+    @Override
+    public int getDegree(int x) {
+        return this.nodes.get(x).getNbSuccs();
+    }
+
+    @Override
+    public int getInDegree(int x) {
+        return this.nodes.get(x).getNbPreds();
+    }
+
     @Override
     public boolean isArc(DirectedNode from, DirectedNode to) {
-    	return getNodeOfList(from).getSuccs().containsKey(getNodeOfList(getNodeOfList(to)))
-                && getNodeOfList(to).getPreds().containsKey(getNodeOfList(getNodeOfList(from))) ; // might be redundant but did it just in case
+    	return getNodeOfList(from).getSuccs().containsLabel(to.getLabel())
+                && getNodeOfList(to).getPreds().containsLabel(from.getLabel()) ; // might be redundant but did it just in case
     }
 
     @Override
     public void removeArc(DirectedNode from, DirectedNode to) {
         if(isArc(from,to)){
-            this.getNodeOfList(from).getSuccs().remove(getNodeOfList(to));
-            this.getNodeOfList(to).getPreds().remove(getNodeOfList(from));
+            this.getNodeOfList(from).getSuccs().removeLabel(to.getLabel());
+            this.getNodeOfList(to).getPreds().removeLabel(from.getLabel());
         }
     }
 
@@ -86,8 +98,8 @@ public class DirectedGraph extends AbstractListGraph<DirectedNode> implements ID
     	if(!isArc(from,to)){
             DirectedNode nFrom = this.getNodes().get(from.getLabel());
             DirectedNode nTo = this.getNodes().get(to.getLabel());
-            nFrom.getSuccs().put(nTo,0);
-            nTo.getPreds().put(nFrom,0);
+            nFrom.addSucc(nTo,0);
+            nTo.addPred(nFrom,0);
         }
     }
     //--------------------------------------------------
@@ -126,6 +138,14 @@ public class DirectedGraph extends AbstractListGraph<DirectedNode> implements ID
         return matrix;
     }
 
+    @Override
+    public void forEachArcFrom(int x, IntIntIntConsumer consumer) {
+        NeighbourMap<DirectedNode> succs = this.nodes.get(x).getSuccs();
+        for (int i = 0; i < succs.size(); i++) {
+            consumer.accept(x, succs.labelAt(i), succs.valueAt(i));
+        }
+    }
+
     @Override
     public IDirectedGraph computeInverse() {
 
@@ -22,8 +22,8 @@ public class DirectedValuedGraph extends DirectedGraph {
             for (int j = 0; j < matrixVal[n.getLabel()].length; j++) {
             	DirectedNode nn = this.getNodes().get(j);
                 if (matrixVal[n.getLabel()][j] != 0) {
-                    n.getSuccs().put(nn,matrixVal[n.getLabel()][j]);
-                    nn.getPreds().put(n,matrixVal[n.getLabel()][j]);
+                    n.addSucc(nn,matrixVal[n.getLabel()][j]);
+                    nn.addPred(n,matrixVal[n.getLabel()][j]);
                     this.m++;
                 }
             }
@@ -42,8 +42,8 @@ public class DirectedValuedGraph extends DirectedGraph {
         if(!isArc(from,to)){
             DirectedNode nFrom = this.getNodes().get(from.getLabel());
             DirectedNode nTo = this.getNodes().get(to.getLabel());
-            nFrom.getSuccs().put(nTo,cost);
-            nTo.getPreds().put(nFrom,cost);
+            nFrom.addSucc(nTo,cost);
+            nTo.addPred(nFrom,cost);
         }
     }
     
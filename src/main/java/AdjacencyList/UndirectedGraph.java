@@ -5,7 +5,9 @@ import java.util.List;
 import java.util.Set;
 
 import Abstraction.AbstractListGraph;
+import Abstraction.IntIntIntConsumer;
 import GraphAlgorithms.GraphTools;
+import Nodes.NeighbourMap;
 import Nodes.UndirectedNode;
 import Abstraction.IUndirectedGraph;
 
@@ -36,8 +38,8 @@ public class UndirectedGraph extends AbstractListGraph<UndirectedNode> implement
             for (int j = n.getLabel(); j < matrix[n.getLabel()].length; j++) {
             	UndirectedNode nn = this.getNodes().get(j);
                 if (matrix[n.getLabel()][j] != 0) {
-                    n.getNeighbours().put(nn,0);
-                    nn.getNeighbours().put(n,0);
+                    n.addNeigh(nn,0);
+                    nn.addNeigh(n,0);
                     this.m++;
                 }
             }
@@ -56,8 +58,8 @@ public class UndirectedGraph extends AbstractListGraph<UndirectedNode> implement
         	UndirectedNode nn = this.getNodes().get(n.getLabel());
             for (UndirectedNode sn : n.getNeighbours().keySet()) {
             	UndirectedNode snn = this.getNodes().get(sn.getLabel());
-                nn.getNeighbours().put(snn,0);
-                snn.getNeighbours().put(nn,0);
+                nn.addNeigh(snn,0);
+                snn.addNeigh(nn,0);
             }
         }
 
@@ -72,16 +74,21 @@ public class UndirectedGraph extends AbstractListGraph<UndirectedNode> implement
         return this.m;
     }
 
+    @Override
+    public int getDegree(int x) {
+        return this.nodes.get(x).getNbNeigh();
+    }
+
     @Override
     public boolean isEdge(UndirectedNode x, UndirectedNode y) {  
-    	return getNodeOfList(x).getNeighbours().containsKey(getNodeOfList(y));
+    	return getNodeOfList(x).getNeighbours().containsLabel(y.getLabel());
     }
 
     @Override
     public void removeEdge(UndirectedNode x, UndirectedNode y) {
     	if(isEdge(x,y)){
-    		this.getNodeOfList(x).getNeighbours().remove(getNodeOfList(y));
-            this.getNodeOfList(y).getNeighbours().remove(getNodeOfList(x));
+    		this.getNodeOfList(x).getNeighbours().removeLabel(y.getLabel());
+            this.getNodeOfList(y).getNeighbours().removeLabel(x.getLabel());
     	}
     }
 
@@ -91,8 +98,8 @@ public class UndirectedGraph extends AbstractListGraph<UndirectedNode> implement
             UndirectedNode nx = this.getNodes().get(x.getLabel());
             UndirectedNode ny = this.getNodes().get(y.getLabel());
             // add both edges since this graph is undirected
-            nx.getNeighbours().put(ny,0);
-            ny.getNeighbours().put(nx,0);
+            nx.addNeigh(ny,0);
+            ny.addNeigh(nx,0);
         }
     }
 
@@ -132,6 +139,14 @@ public class UndirectedGraph extends AbstractListGraph<UndirectedNode> implement
         return matrix;
     }
 
+    @Override
+    public void forEachArcFrom(int x, IntIntIntConsumer consumer) {
+        NeighbourMap<UndirectedNode> neighbours = this.nodes.get(x).getNeighbours();
+        for (int i = 0; i < neighbours.size(); i++) {
+            consumer.accept(x, neighbours.labelAt(i), neighbours.valueAt(i));
+        }
+    }
+
     @Override
     public String toString() {
         StringBuilder s = new StringBuilder();
@@ -22,14 +22,26 @@ public class UndirectedValuedGraph extends UndirectedGraph{
             for (int j = n.getLabel(); j < matrixVal[n.getLabel()].length; j++) {
             	UndirectedNode nn = this.getNodes().get(j);
                 if (matrixVal[n.getLabel()][j] != 0) {
-                    n.getNeighbours().put(nn,matrixVal[n.getLabel()][j]);
-                    nn.getNeighbours().put(n,matrixVal[n.getLabel()][j]);
+                    n.addNeigh(nn,matrixVal[n.getLabel()][j]);
+                    nn.addNeigh(n,matrixVal[n.getLabel()][j]);
                     this.m++;
                 }
             }
         }
     }
 
+    /**
+     * Builds a graph of order nodes without any edge, in O(order)
+     */
+    public UndirectedValuedGraph(int order) {
+    	super();
+    	this.order = order;
+        this.nodes = new ArrayList<>(order);
+        for (int i = 0; i < order; i++) {
+            this.nodes.add(this.makeNode(i));
+        }
+    }
+
     //--------------------------------------------------
     // 				Methods
     //--------------------------------------------------
@@ -43,8 +55,8 @@ public class UndirectedValuedGraph extends UndirectedGraph{
             UndirectedNode nx = this.getNodes().get(x.getLabel());
             UndirectedNode ny = this.getNodes().get(y.getLabel());
             // add both edges since this graph is undirected
-            nx.getNeighbours().put(ny,cost);
-            ny.getNeighbours().put(nx,cost);
+            nx.addNeigh(ny,cost);
+            ny.addNeigh(nx,cost);
         }
     }
     
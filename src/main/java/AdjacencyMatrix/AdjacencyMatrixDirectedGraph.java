@@ -5,6 +5,7 @@ import GraphAlgorithms.GraphTools;
 import Nodes.AbstractNode;
 import Nodes.DirectedNode;
 import Abstraction.IDirectedGraph;
+import Abstraction.IntIntIntConsumer;
 import Nodes.UndirectedNode;
 
 import java.util.ArrayList;
@@ -38,7 +39,9 @@ public class AdjacencyMatrixDirectedGraph extends AbstractMatrixGraph<DirectedNo
 	public AdjacencyMatrixDirectedGraph(IDirectedGraph g) {
 		this.order = g.getNbNodes();
 		this.m = g.getNbArcs();
-		this.matrix = g.toAdjacencyMatrix();
+		this.matrix = new int[this.order][this.order];
+		int[][] mat = this.matrix;
+		g.forEachArc((from, to, cost) -> mat[from][to]++);
 	}
 
 	//--------------------------------------------------
@@ -50,6 +53,24 @@ public class AdjacencyMatrixDirectedGraph extends AbstractMatrixGraph<DirectedNo
 		return this.m;
 	}
 
+	@Override
+	public int getDegree(int x) {
+		int degree = 0;
+		for (int j = 0; j < this.order; j++) {
+			degree += this.matrix[x][j];
+		}
+		return degree;
+	}
+
+	@Override
+	public int getInDegree(int x) {
+		int degree = 0;
+		for (int i = 0; i < this.order; i++) {
+			degree += this.matrix[i][x];
+		}
+		return degree;
+	}
+
 	public List<Integer> getSuccessors(DirectedNode x) {
 		List<Integer> v = new ArrayList<Integer>();
 		for(int i =0;i<this.matrix[x.getLabel()].length;i++){
@@ -120,6 +141,22 @@ public class AdjacencyMatrixDirectedGraph extends AbstractMatrixGraph<DirectedNo
 		return this.matrix;
 	}
 
+	@Override
+	public void forEachArcFrom(int x, IntIntIntConsumer consumer) {
+		for (int j = 0; j < this.order; j++) {
+			for (int k = 0; k < this.matrix[x][j]; k++) {
+				consumer.accept(x, j, this.getCost(x, j));
+			}
+		}
+	}
+
+	/**
+	 * @return the cost of the arc (x,y), 0 since this graph is not valued
+	 */
+	protected int getCost(int x, int y) {
+		return 0;
+	}
+
 	@Override
 	public IDirectedGraph computeInverse() {
 		AdjacencyMatrixDirectedGraph am = new AdjacencyMatrixDirectedGraph(new int[this.order][this.order]);
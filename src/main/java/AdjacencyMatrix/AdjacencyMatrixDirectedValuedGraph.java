@@ -46,6 +46,14 @@ public class AdjacencyMatrixDirectedValuedGraph extends AdjacencyMatrixDirectedG
 	// ------------------------------------------------
 	// 					Methods
 	// ------------------------------------------------	
+
+	/**
+	 * @return the cost of the arc (x,y)
+	 */
+	@Override
+	protected int getCost(int x, int y) {
+		return this.matrixCosts[x][y];
+	}
 	
 	/**
      * removes the arc (from,to) if there exists at least one between these nodes in the graph. And if there remains no arc, removes the cost.
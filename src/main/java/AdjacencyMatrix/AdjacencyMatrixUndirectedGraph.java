@@ -5,6 +5,7 @@ import GraphAlgorithms.GraphTools;
 import Nodes.AbstractNode;
 import Nodes.UndirectedNode;
 import Abstraction.IUndirectedGraph;
+import Abstraction.IntIntIntConsumer;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -39,7 +40,9 @@ public class AdjacencyMatrixUndirectedGraph extends AbstractMatrixGraph<Undirect
 	public AdjacencyMatrixUndirectedGraph(IUndirectedGraph g) {
 		this.order = g.getNbNodes(); 				
 		this.m = g.getNbEdges(); 				
-		this.matrix = g.toAdjacencyMatrix(); 
+		this.matrix = new int[this.order][this.order];
+		int[][] mat = this.matrix;
+		g.forEachArc((x, y, cost) -> mat[x][y]++); // both (x,y) and (y,x) are reported
 	}
 
 	//--------------------------------------------------
@@ -51,6 +54,15 @@ public class AdjacencyMatrixUndirectedGraph extends AbstractMatrixGraph<Undirect
 		return this.m;
 	}
 
+	@Override
+	public int getDegree(int x) {
+		int degree = 0;
+		for (int j = 0; j < this.order; j++) {
+			degree += this.matrix[x][j];
+		}
+		return degree;
+	}
+
 	public List<Integer> getNeighbours(AbstractNode x) {
 		List<Integer> l = new ArrayList<>();
 		for(int i = 0; i<matrix[x.getLabel()].length; i++){
@@ -110,6 +122,22 @@ public class AdjacencyMatrixUndirectedGraph extends AbstractMatrixGraph<Undirect
 		return this.matrix;
 	}
 	
+	@Override
+	public void forEachArcFrom(int x, IntIntIntConsumer consumer) {
+		for (int j = 0; j < this.order; j++) {
+			for (int k = 0; k < this.matrix[x][j]; k++) {
+				consumer.accept(x, j, this.getCost(x, j));
+			}
+		}
+	}
+
+	/**
+	 * @return the cost of the edge (x,y), 0 since this graph is not valued
+	 */
+	protected int getCost(int x, int y) {
+		return 0;
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder s = new StringBuilder("Adjacency Matrix: \n");
@@ -49,6 +49,14 @@ public class AdjacencyMatrixUndirectedValuedGraph extends AdjacencyMatrixUndirec
 	// ------------------------------------------------
 	// 					Methods 
 	// ------------------------------------------------	
+
+	/**
+	 * @return the cost of the edge (x,y)
+	 */
+	@Override
+	protected int getCost(int x, int y) {
+		return this.matrixCosts[x][y];
+	}
 	
 	/**
      * removes the edge (x,y) if there exists at least one between these nodes in the graph. And if there remains no arc, removes the cost.
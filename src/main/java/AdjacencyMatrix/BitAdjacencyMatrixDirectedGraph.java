@@ -0,0 +1,192 @@
+package AdjacencyMatrix;
+
+import Abstraction.AbstractBitMatrixGraph;
+import Abstraction.IDirectedGraph;
+import GraphAlgorithms.GraphTools;
+import Nodes.DirectedNode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class represents the simple, non valued directed graphs structured by an adjacency matrix
+ * of bits: each row is a long[] so a cell costs 1 bit instead of the 32 bits of AdjacencyMatrixDirectedGraph.
+ */
+public class BitAdjacencyMatrixDirectedGraph extends AbstractBitMatrixGraph<DirectedNode> implements IDirectedGraph {
+
+	//--------------------------------------------------
+	// 				Constructors
+	//--------------------------------------------------
+
+	public BitAdjacencyMatrixDirectedGraph() {
+		super();
+	}
+
+	/**
+	 * @param M an adjacency matrix whose cells are 0 or 1
+	 */
+	public BitAdjacencyMatrixDirectedGraph(int[][] M) {
+		super(M.length);
+		checkSimple(M);
+		for (int i = 0; i < this.order; i++) {
+			for (int j = 0; j < this.order; j++) {
+				if (M[i][j] != 0) {
+					this.setBit(i, j);
+					this.m++;
+				}
+			}
+		}
+	}
+
+	/**
+	 * @param g a directed graph, parallel arcs are merged
+	 */
+	public BitAdjacencyMatrixDirectedGraph(IDirectedGraph g) {
+		super(g.getNbNodes());
+		g.forEachArc((from, to, cost) -> {
+			if (this.setBit(from, to)) {
+				this.m++;
+			}
+		});
+	}
+
+	//--------------------------------------------------
+	// 					Accessors
+	//--------------------------------------------------
+
+	@Override
+	public int getNbArcs() {
+		return this.m;
+	}
+
+	/**
+	 * @return the labels of the successors of x, found by bit-scanning its row
+	 */
+	public List<Integer> getSuccessors(DirectedNode x) {
+		List<Integer> v = new ArrayList<>();
+		for (int j : this.rowIndexes(x.getLabel())) {
+			v.add(j);
+		}
+		return v;
+	}
+
+	/**
+	 * @return the labels of the predecessors of x (one bit test per row)
+	 */
+	public List<Integer> getPredecessors(DirectedNode x) {
+		List<Integer> v = new ArrayList<>();
+		int w = x.getLabel() >>> 6;
+		long bit = 1L << x.getLabel();
+		for (int i = 0; i < this.order; i++) {
+			if ((this.rows[i][w] & bit) != 0) {
+				v.add(i);
+			}
+		}
+		return v;
+	}
+
+	/**
+	 * @return the number of successors of x, with a popcount per word of its row
+	 */
+	public int getNbSuccs(DirectedNode x) {
+		return this.rowCardinality(x.getLabel());
+	}
+
+	@Override
+	public int getInDegree(int x) {
+		int w = x >>> 6;
+		long bit = 1L << x;
+		int degree = 0;
+		for (int i = 0; i < this.order; i++) {
+			if ((this.rows[i][w] & bit) != 0) {
+				degree++;
+			}
+		}
+		return degree;
+	}
+
+	// ------------------------------------------------
+	// 					Methods
+	// ------------------------------------------------
+
+	@Override
+	public boolean isArc(DirectedNode from, DirectedNode to) {
+		return this.testBit(from.getLabel(), to.getLabel());
+	}
+
+	/**
+	 * removes the arc (from,to) if it exists in the graph.
+	 */
+	@Override
+	public void removeArc(DirectedNode from, DirectedNode to) {
+		if (isArc(from, to)) {
+			this.clearBit(from.getLabel(), to.getLabel());
+			this.m--;
+		}
+	}
+
+	/**
+	 * Adds the arc (from,to) if it is not already present, this graph is simple.
+	 */
+	@Override
+	public void addArc(DirectedNode from, DirectedNode to) {
+		if (this.setBit(from.getLabel(), to.getLabel())) {
+			this.m++;
+		}
+	}
+
+	@Override
+	public IDirectedGraph computeInverse() {
+		BitAdjacencyMatrixDirectedGraph am = new BitAdjacencyMatrixDirectedGraph();
+		am.order = this.order;
+		am.words = this.words;
+		am.m = this.m;
+		am.rows = this.transposeRows();
+		return am;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder s = new StringBuilder("Bit Adjacency Matrix: \n");
+		for (int i = 0; i < this.order; i++) {
+			for (int j = 0; j < this.order; j++) {
+				s.append(this.testBit(i, j) ? 1 : 0).append(" ");
+			}
+			s.append("\n");
+		}
+		s.append("\n");
+		return s.toString();
+	}
+
+	public static void main(String[] args) {
+		int[][] matrix2 = GraphTools.generateGraphData(10, 20, false, false, false, 100001);
+		BitAdjacencyMatrixDirectedGraph am = new BitAdjacencyMatrixDirectedGraph(matrix2);
+		System.out.println(am);
+		List<Integer> t = am.getSuccessors(new DirectedNode(1));
+		for (Integer integer : t) {
+			System.out.print(integer + ", ");
+		}
+		System.out.println();
+		List<Integer> t2 = am.getPredecessors(new DirectedNode(2));
+		for (Integer integer : t2) {
+			System.out.print(integer + ", ");
+		}
+
+		/* Adding the arc (2,5) twice --> only one arc since the graph is simple */
+		System.out.println("\nAdding 2 times the arc (2,5):");
+		am.addArc(new DirectedNode(2), new DirectedNode(5));
+		am.addArc(new DirectedNode(2), new DirectedNode(5));
+		System.out.println("\n" + am);
+		System.out.println("M = " + am.getNbArcs());
+
+		/* Removing the arc (2,5) */
+		System.out.println("\nRemoving the arc (2,5):");
+		am.removeArc(new DirectedNode(2), new DirectedNode(5));
+		System.out.println(am);
+
+		/* Reversing the graph */
+		System.out.println("\n Graph inverse is:");
+		IDirectedGraph amNew = am.computeInverse();
+		System.out.println(amNew);
+	}
+}
@@ -0,0 +1,153 @@
+package AdjacencyMatrix;
+
+import Abstraction.AbstractBitMatrixGraph;
+import Abstraction.IUndirectedGraph;
+import GraphAlgorithms.GraphTools;
+import Nodes.AbstractNode;
+import Nodes.UndirectedNode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class represents the simple, non valued undirected graphs structured by an adjacency matrix
+ * of bits: each row is a long[] so a cell costs 1 bit instead of the 32 bits of AdjacencyMatrixUndirectedGraph.
+ */
+public class BitAdjacencyMatrixUndirectedGraph extends AbstractBitMatrixGraph<UndirectedNode> implements IUndirectedGraph {
+
+	//--------------------------------------------------
+	// 				Constructors
+	//--------------------------------------------------
+
+	public BitAdjacencyMatrixUndirectedGraph() {
+		super();
+	}
+
+	/**
+	 * @param mat an adjacency matrix whose cells are 0 or 1, only its upper triangle is read
+	 */
+	public BitAdjacencyMatrixUndirectedGraph(int[][] mat) {
+		super(mat.length);
+		checkSimple(mat);
+		for (int i = 0; i < this.order; i++) {
+			for (int j = i; j < this.order; j++) {
+				if (mat[i][j] != 0) {
+					this.setBit(i, j);
+					this.setBit(j, i);
+					this.m++;
+				}
+			}
+		}
+	}
+
+	/**
+	 * @param g an undirected graph, parallel edges are merged
+	 */
+	public BitAdjacencyMatrixUndirectedGraph(IUndirectedGraph g) {
+		super(g.getNbNodes());
+		g.forEachArc((x, y, cost) -> {
+			// each edge is reported from both ends, it is counted from its smallest end
+			if (this.setBit(x, y) && x <= y) {
+				this.m++;
+			}
+		});
+	}
+
+	//--------------------------------------------------
+	// 					Accessors
+	//--------------------------------------------------
+
+	@Override
+	public int getNbEdges() {
+		return this.m;
+	}
+
+	/**
+	 * @return the labels of the neighbours of x, found by bit-scanning its row
+	 */
+	public List<Integer> getNeighbours(AbstractNode x) {
+		List<Integer> l = new ArrayList<>();
+		for (int j : this.rowIndexes(x.getLabel())) {
+			l.add(j);
+		}
+		return l;
+	}
+
+	/**
+	 * @return the number of neighbours of x, with a popcount per word of its row
+	 */
+	public int getNbNeighbours(AbstractNode x) {
+		return this.rowCardinality(x.getLabel());
+	}
+
+	// ------------------------------------------------
+	// 					Methods
+	// ------------------------------------------------
+
+	@Override
+	public boolean isEdge(UndirectedNode x, UndirectedNode y) {
+		return this.testBit(x.getLabel(), y.getLabel()); // sufficient since the matrix is symmetric
+	}
+
+	/**
+	 * removes the edge (x,y) if it exists in the graph.
+	 */
+	@Override
+	public void removeEdge(UndirectedNode x, UndirectedNode y) {
+		if (isEdge(x, y)) {
+			this.clearBit(x.getLabel(), y.getLabel());
+			this.clearBit(y.getLabel(), x.getLabel());
+			this.m--;
+		}
+	}
+
+	/**
+	 * adds the edge (x,y) if it is not already present, this graph is simple.
+	 */
+	@Override
+	public void addEdge(UndirectedNode x, UndirectedNode y) {
+		if (this.setBit(x.getLabel(), y.getLabel())) {
+			this.setBit(y.getLabel(), x.getLabel());
+			this.m++;
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder s = new StringBuilder("Bit Adjacency Matrix: \n");
+		for (int i = 0; i < this.order; i++) {
+			for (int j = 0; j < this.order; j++) {
+				s.append(this.testBit(i, j) ? 1 : 0).append(" ");
+			}
+			s.append("\n");
+		}
+		s.append("\n");
+		return s.toString();
+	}
+
+	public static void main(String[] args) {
+		int[][] mat2 = GraphTools.generateGraphData(10, 35, false, true, false, 100001);
+		BitAdjacencyMatrixUndirectedGraph am = new BitAdjacencyMatrixUndirectedGraph(mat2);
+		System.out.println(am);
+
+		/* Edge testing: (2,5) (or (5,2)) */
+		System.out.println("\n isEdge : " + am.isEdge(new UndirectedNode(2), new UndirectedNode(5)));
+
+		/* Get `2`'s neighbours */
+		System.out.println("N = " + am.getNbNodes() + "\n M = " + am.getNbEdges());
+		List<Integer> t2 = am.getNeighbours(new UndirectedNode(2));
+		for (Integer integer : t2) {
+			System.out.print(integer + ", ");
+		}
+
+		/* Adding the edge (2,5) twice --> only one edge since the graph is simple */
+		am.addEdge(new UndirectedNode(2), new UndirectedNode(5));
+		am.addEdge(new UndirectedNode(2), new UndirectedNode(5));
+		System.out.println("\n" + am);
+
+		/* Removing the edge (2,5) */
+		am.removeEdge(new UndirectedNode(2), new UndirectedNode(5));
+		System.out.println(am);
+		System.out.println("M = " + am.getNbEdges());
+	}
+}
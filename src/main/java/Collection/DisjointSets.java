@@ -0,0 +1,79 @@
+package Collection;
+
+import java.util.Arrays;
+
+/**
+ * Disjoint sets (union-find) over the integers 0 ... size-1, stored in two int[].
+ * find uses path halving (each visited element points to its grandparent) and union links by rank,
+ * so that any sequence of operations runs in almost constant amortized time per operation.
+ */
+public class DisjointSets {
+
+	private final int[] parent;
+	private final int[] rank;
+	private int nbSets;
+
+	public DisjointSets(int size) {
+		this.parent = new int[size];
+		this.rank = new int[size];
+		for (int i = 0; i < size; i++) {
+			this.parent[i] = i;
+		}
+		this.nbSets = size;
+	}
+
+	/**
+	 * @return the representative of the set holding x
+	 */
+	public int find(int x) {
+		while (this.parent[x] != x) {
+			this.parent[x] = this.parent[this.parent[x]];
+			x = this.parent[x];
+		}
+		return x;
+	}
+
+	/**
+	 * Merges the sets holding x and y
+	 * @return false if they were already in the same set
+	 */
+	public boolean union(int x, int y) {
+		int rx = find(x);
+		int ry = find(y);
+		if (rx == ry) {
+			return false;
+		}
+		if (this.rank[rx] < this.rank[ry]) {
+			this.parent[rx] = ry;
+		} else if (this.rank[rx] > this.rank[ry]) {
+			this.parent[ry] = rx;
+		} else {
+			this.parent[ry] = rx;
+			this.rank[rx]++;
+		}
+		this.nbSets--;
+		return true;
+	}
+
+	public boolean connected(int x, int y) {
+		return find(x) == find(y);
+	}
+
+	public int getNbSets() {
+		return nbSets;
+	}
+
+	public int size() {
+		return parent.length;
+	}
+
+	@Override
+	public String toString() {
+		int[] roots = new int[this.parent.length];
+		for (int i = 0; i < roots.length; i++) {
+			roots[i] = find(i);
+		}
+		return Arrays.toString(roots);
+	}
+
+}
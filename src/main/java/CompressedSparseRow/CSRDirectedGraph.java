@@ -0,0 +1,352 @@
+package CompressedSparseRow;
+
+import Abstraction.IDirectedGraph;
+import Abstraction.IntIntIntConsumer;
+import AdjacencyList.DirectedGraph;
+import AdjacencyList.DirectedValuedGraph;
+import GraphAlgorithms.GraphTools;
+import Nodes.DirectedNode;
+
+import java.util.Map;
+
+/**
+ * This class represents an immutable directed graph stored in compressed sparse row (CSR) form.
+ * The successors of node u are targets[offsets[u]] ... targets[offsets[u+1]-1], and weights (if any)
+ * are stored at the same indexes. Arcs are kept in the order of the graph they were built from.
+ */
+public class CSRDirectedGraph implements IDirectedGraph {
+
+    //--------------------------------------------------
+    // 				Class variables
+    //--------------------------------------------------
+
+    private final int order;        // Number of vertices
+    private final int m;            // Number of arcs
+    private final int[] offsets;    // offsets[u] is the index of the first arc leaving u, offsets[order] == m
+    private final int[] targets;    // targets[a] is the head of arc a
+    private final int[] weights;    // weights[a] is the cost of arc a, null if the graph is not valued
+    private int[] inDegrees;        // computed on demand
+
+    //--------------------------------------------------
+    // 				Constructors
+    //--------------------------------------------------
+
+    /**
+     * Builds a graph directly from its CSR arrays, which are used as-is (not copied)
+     * @param offsets array of size order+1
+     * @param targets array of size offsets[order]
+     * @param weights array of size offsets[order], or null for a non valued graph
+     */
+    public CSRDirectedGraph(int[] offsets, int[] targets, int[] weights) {
+        if (offsets.length == 0 || offsets[offsets.length - 1] > targets.length
+                || (weights != null && weights.length < targets.length)) {
+            throw new IllegalArgumentException("Inconsistent CSR arrays");
+        }
+        this.order = offsets.length - 1;
+        this.m = offsets[this.order];
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+    }
+
+    /**
+     * Builds a non valued graph: each non-zero cell (i,j) of the matrix is the arc (i,j)
+     */
+    public CSRDirectedGraph(int[][] matrix) {
+        this(matrix, false);
+    }
+
+    /**
+     * Builds a graph from a matrix: each non-zero cell (i,j) is the arc (i,j)
+     * @param valued if true, the value of the cell is kept as the cost of the arc
+     */
+    public CSRDirectedGraph(int[][] matrix, boolean valued) {
+        this.order = matrix.length;
+        this.offsets = new int[this.order + 1];
+        for (int i = 0; i < this.order; i++) {
+            int deg = 0;
+            for (int j = 0; j < matrix[i].length; j++) {
+                if (matrix[i][j] != 0) {
+                    deg++;
+                }
+            }
+            this.offsets[i + 1] = this.offsets[i] + deg;
+        }
+        this.m = this.offsets[this.order];
+        this.targets = new int[this.m];
+        this.weights = valued ? new int[this.m] : null;
+        int a = 0;
+        for (int i = 0; i < this.order; i++) {
+            for (int j = 0; j < matrix[i].length; j++) {
+                if (matrix[i][j] != 0) {
+                    this.targets[a] = j;
+                    if (valued) {
+                        this.weights[a] = matrix[i][j];
+                    }
+                    a++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Builds a snapshot of an adjacency list graph, keeping the costs if g is a DirectedValuedGraph
+     */
+    public CSRDirectedGraph(DirectedGraph g) {
+        this.order = g.getNbNodes();
+        this.offsets = new int[this.order + 1];
+        for (DirectedNode n : g.getNodes()) {
+            this.offsets[n.getLabel() + 1] = n.getNbSuccs();
+        }
+        for (int i = 0; i < this.order; i++) {
+            this.offsets[i + 1] += this.offsets[i];
+        }
+        this.m = this.offsets[this.order];
+        this.targets = new int[this.m];
+        this.weights = g instanceof DirectedValuedGraph ? new int[this.m] : null;
+        for (DirectedNode n : g.getNodes()) {
+            int a = this.offsets[n.getLabel()];
+            for (Map.Entry<DirectedNode, Integer> succ : n.getSuccs().entrySet()) {
+                this.targets[a] = succ.getKey().getLabel();
+                if (this.weights != null) {
+                    this.weights[a] = succ.getValue();
+                }
+                a++;
+            }
+        }
+    }
+
+    /**
+     * Builds a snapshot of any directed graph with its streaming arc traversal. Complexity: O(n+m)
+     * @param valued if true, the costs reported by g are kept
+     */
+    public CSRDirectedGraph(IDirectedGraph g, boolean valued) {
+        this.order = g.getNbNodes();
+        this.offsets = new int[this.order + 1];
+        for (int u = 0; u < this.order; u++) {
+            this.offsets[u + 1] = this.offsets[u] + g.getDegree(u);
+        }
+        this.m = this.offsets[this.order];
+        this.targets = new int[this.m];
+        this.weights = valued ? new int[this.m] : null;
+        int[] next = new int[1];
+        for (int u = 0; u < this.order; u++) {
+            next[0] = this.offsets[u];
+            g.forEachArcFrom(u, (from, to, cost) -> {
+                this.targets[next[0]] = to;
+                if (this.weights != null) {
+                    this.weights[next[0]] = cost;
+                }
+                next[0]++;
+            });
+        }
+    }
+
+    // ------------------------------------------
+    // 				Accessors
+    // ------------------------------------------
+
+    @Override
+    public int getNbNodes() {
+        return this.order;
+    }
+
+    @Override
+    public int getNbArcs() {
+        return this.m;
+    }
+
+    /**
+     * @return true if the arcs of the graph carry a cost
+     */
+    public boolean isValued() {
+        return this.weights != null;
+    }
+
+    /**
+     * @return the offsets array (size order+1), must not be modified
+     */
+    public int[] getOffsets() {
+        return this.offsets;
+    }
+
+    /**
+     * @return the arc heads array (size m), must not be modified
+     */
+    public int[] getTargets() {
+        return this.targets;
+    }
+
+    /**
+     * @return the arc costs array (size m), or null if the graph is not valued. Must not be modified
+     */
+    public int[] getWeights() {
+        return this.weights;
+    }
+
+    /**
+     * @return the cost of the arc of index a, 0 if the graph is not valued
+     */
+    public int getWeight(int a) {
+        return this.weights == null ? 0 : this.weights[a];
+    }
+
+    /**
+     * @return the number of successors of the node labelled u
+     */
+    public int getNbSuccs(int u) {
+        return this.offsets[u + 1] - this.offsets[u];
+    }
+
+    @Override
+    public int getDegree(int x) {
+        return this.offsets[x + 1] - this.offsets[x];
+    }
+
+    /**
+     * The in-degrees are counted once, on the first call, since the graph never changes
+     */
+    @Override
+    public int getInDegree(int x) {
+        if (this.inDegrees == null) {
+            int[] degrees = new int[this.order];
+            for (int a = 0; a < this.m; a++) {
+                degrees[this.targets[a]]++;
+            }
+            this.inDegrees = degrees;
+        }
+        return this.inDegrees[x];
+    }
+
+    // ------------------------------------------------
+    // 					Methods
+    // ------------------------------------------------
+
+    /**
+     * @return the index of the arc (from,to), or -1 if there is none. Complexity: O(d⁺(from))
+     */
+    public int indexOfArc(int from, int to) {
+        if (from < 0 || from >= this.order) {
+            return -1;
+        }
+        for (int a = this.offsets[from]; a < this.offsets[from + 1]; a++) {
+            if (this.targets[a] == to) {
+                return a;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void forEachArcFrom(int x, IntIntIntConsumer consumer) {
+        for (int a = this.offsets[x]; a < this.offsets[x + 1]; a++) {
+            consumer.accept(x, this.targets[a], this.weights == null ? 0 : this.weights[a]);
+        }
+    }
+
+    @Override
+    public boolean isArc(DirectedNode from, DirectedNode to) {
+        return indexOfArc(from.getLabel(), to.getLabel()) != -1;
+    }
+
+    /**
+     * Not supported: a CSR graph is immutable
+     */
+    @Override
+    public void removeArc(DirectedNode from, DirectedNode to) {
+        throw new UnsupportedOperationException("CSRDirectedGraph is immutable");
+    }
+
+    /**
+     * Not supported: a CSR graph is immutable
+     */
+    @Override
+    public void addArc(DirectedNode from, DirectedNode to) {
+        throw new UnsupportedOperationException("CSRDirectedGraph is immutable");
+    }
+
+    /**
+     * @return the adjacency matrix representation int[][] of the graph
+     */
+    @Override
+    public int[][] toAdjacencyMatrix() {
+        int[][] matrix = new int[this.order][this.order];
+        for (int u = 0; u < this.order; u++) {
+            for (int a = this.offsets[u]; a < this.offsets[u + 1]; a++) {
+                matrix[u][this.targets[a]] = 1;
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * Transposes the graph with a counting sort on the arc heads. Complexity: O(n+m)
+     * @return a new CSRDirectedGraph where every arc (u,v,cost) becomes (v,u,cost)
+     */
+    @Override
+    public CSRDirectedGraph computeInverse() {
+        int[] invOffsets = new int[this.order + 1];
+        for (int a = 0; a < this.m; a++) {
+            invOffsets[this.targets[a] + 1]++;
+        }
+        for (int i = 0; i < this.order; i++) {
+            invOffsets[i + 1] += invOffsets[i];
+        }
+        int[] next = new int[this.order];
+        System.arraycopy(invOffsets, 0, next, 0, this.order);
+        int[] invTargets = new int[this.m];
+        int[] invWeights = this.weights == null ? null : new int[this.m];
+        for (int u = 0; u < this.order; u++) {
+            for (int a = this.offsets[u]; a < this.offsets[u + 1]; a++) {
+                int pos = next[this.targets[a]]++;
+                invTargets[pos] = u;
+                if (invWeights != null) {
+                    invWeights[pos] = this.weights[a];
+                }
+            }
+        }
+        return new CSRDirectedGraph(invOffsets, invTargets, invWeights);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder s = new StringBuilder();
+        for (int u = 0; u < this.order; u++) {
+            s.append("successors of node-").append(u).append(" : ");
+            for (int a = this.offsets[u]; a < this.offsets[u + 1]; a++) {
+                if (this.weights != null) {
+                    s.append("(node-").append(this.targets[a]).append(",").append(this.weights[a]).append(")  ");
+                } else {
+                    s.append("node-").append(this.targets[a]).append(" ");
+                }
+            }
+            s.append("\n");
+        }
+        s.append("\n");
+        return s.toString();
+    }
+
+    public static void main(String[] args) {
+        int[][] matrixValued = GraphTools.generateValuedGraphData(10, false, false, true, false, 100001);
+        GraphTools.afficherMatrix(matrixValued);
+
+        /* Build from an adjacency list graph */
+        DirectedValuedGraph al = new DirectedValuedGraph(matrixValued);
+        CSRDirectedGraph csr = new CSRDirectedGraph(al);
+        System.out.println(csr);
+        System.out.println("N = " + csr.getNbNodes() + "\n M = " + csr.getNbArcs());
+
+        /* Build from the same matrix */
+        CSRDirectedGraph csrMat = new CSRDirectedGraph(matrixValued, true);
+        System.out.println("same number of arcs from the matrix: " + (csrMat.getNbArcs() == csr.getNbArcs()));
+
+        /* check if (2,5) is an arc */
+        System.out.println("\n isArc((2,5)): " + csr.isArc(new DirectedNode(2), new DirectedNode(5)));
+
+        /* Invert the graph */
+        System.out.println("\n Graph inverse:");
+        CSRDirectedGraph inv = csr.computeInverse();
+        GraphTools.afficherMatrix(inv.toAdjacencyMatrix());
+        System.out.println(inv);
+    }
+}
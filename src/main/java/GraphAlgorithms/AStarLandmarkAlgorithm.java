@@ -0,0 +1,174 @@
+package GraphAlgorithms;
+
+import AdjacencyList.DirectedValuedGraph;
+import Nodes.DirectedNode;
+import Nodes.NeighbourMap;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A* point-to-point queries (src -> dst) guided by the landmark lower bounds of a LandmarkTable (ALT).
+ * The bound is consistent, so a node leaves the heap with its final distance and the search stops when dst does.
+ * The buffers are kept from one query to the next and only the labels touched by a query are reset.
+ */
+public class AStarLandmarkAlgorithm {
+
+    // given directed valued graph
+    public DirectedValuedGraph graph;
+
+    // landmark distances of the graph
+    public LandmarkTable landmarks;
+
+    public int[] dist;
+
+    public int[] pred;
+
+    // lower bound of d(v,dst), computed the first time v is reached by a query
+    private final int[] bound;
+
+    private final IndexedBinaryHeap heap;
+
+    // labels whose distances were set by the last query, to reset them before the next one
+    private final int[] touched;
+
+    private int nbTouched;
+
+    // results of the last query
+    public int distance;
+
+    public int[] path;
+
+    public int nbSettled;
+
+    public AStarLandmarkAlgorithm(DirectedValuedGraph graph, LandmarkTable landmarks){
+        if (landmarks.getNbNodes() != graph.getNbNodes()){
+            throw new IllegalArgumentException("The landmark table has " + landmarks.getNbNodes()
+                    + " nodes, the graph has " + graph.getNbNodes());
+        }
+        int n = graph.getNbNodes();
+        this.graph = graph;
+        this.landmarks = landmarks;
+        this.dist = new int[n];
+        this.pred = new int[n];
+        this.bound = new int[n];
+        Arrays.fill(this.dist, Integer.MAX_VALUE);
+        this.heap = new IndexedBinaryHeap(n);
+        this.touched = new int[n];
+        this.nbTouched = 0;
+    }
+
+    /**
+     * Computes a shortest path from src to dst.
+     * @return the labels of the path from src to dst (both included), an empty array if dst is unreachable
+     */
+    public int[] execAStar(DirectedNode src, DirectedNode dst){
+        // Complexity: O((n'+m')*(k+log_2(n'))) where n' and m' count the nodes settled by the query and their arcs
+        this.reset();
+        int s = src.getLabel();
+        int t = dst.getLabel();
+        this.nbSettled = 0;
+        this.distance = Integer.MAX_VALUE;
+        this.path = new int[0];
+
+        this.touch(s, t);
+        this.dist[s] = 0;
+        this.pred[s] = s;
+        this.heap.insert(s, this.bound[s]);
+
+        // the heap is ordered by dist + lower bound to dst
+        while (!this.heap.isEmpty()){
+            int x = this.heap.removeMin();
+            this.nbSettled++;
+            if (x == t){
+                this.distance = this.dist[t];
+                this.path = this.buildPath(s, t);
+                break;
+            }
+            int dx = this.dist[x];
+            NeighbourMap<DirectedNode> succs = this.graph.getNodes().get(x).getSuccs();
+            for (int i = 0; i < succs.size(); i++){ // O(d⁺(x)*(k+log_2(n')))
+                int y = succs.labelAt(i);
+                int dy = dx + succs.valueAt(i);
+                if (dy < this.dist[y]){
+                    if (this.dist[y] == Integer.MAX_VALUE){
+                        this.touch(y, t);
+                    }
+                    this.dist[y] = dy;
+                    this.pred[y] = x;
+                    this.heap.insertOrDecrease(y, dy + this.bound[y]);
+                }
+            }
+        }
+        return this.path;
+    }
+
+    private int[] buildPath(int s, int t){
+        int length = 1;
+        for (int x = t; x != s; x = this.pred[x]){
+            length++;
+        }
+        int[] p = new int[length];
+        int x = t;
+        for (int k = length - 1; k >= 0; k--){
+            p[k] = x;
+            x = this.pred[x];
+        }
+        return p;
+    }
+
+    private void touch(int x, int t){
+        this.touched[this.nbTouched++] = x;
+        this.bound[x] = this.landmarks.lowerBound(x, t);
+    }
+
+    /**
+     * Forgets the last query.  O(number of labels it touched)
+     */
+    private void reset(){
+        for (int i = 0; i < this.nbTouched; i++){
+            this.dist[this.touched[i]] = Integer.MAX_VALUE;
+        }
+        this.nbTouched = 0;
+        this.heap.clear();
+    }
+
+    public int getDistance() {
+        return this.distance;
+    }
+
+    public int[] getPath() {
+        return this.path;
+    }
+
+    public int getNbSettled() {
+        return this.nbSettled;
+    }
+
+    public void printPath(){
+        if (this.path == null) {
+            System.out.println("No query yet, please run the algorithm first");
+        } else if (this.path.length == 0) {
+            System.out.println("dst is unreachable");
+        } else {
+            System.out.println("dist = " + this.distance + "   ;    path = " + Arrays.toString(this.path)
+                    + "   ;    settled nodes = " + this.nbSettled);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int[][] matrixValued = GraphTools.generateValuedGraphData(20, false, false, true, false, 100001);
+        DirectedValuedGraph graph = new DirectedValuedGraph(matrixValued);
+
+        // preprocessing, once per graph
+        LandmarkTable table = LandmarkTable.compute(graph, 4);
+        System.out.println("Landmarks: " + Arrays.toString(table.getLandmarks()));
+
+        AStarLandmarkAlgorithm alt = new AStarLandmarkAlgorithm(graph, table);
+        for (int t = 0; t < 20; t += 3){
+            System.out.print("0 -> " + t + " : ");
+            alt.execAStar(new DirectedNode(0), new DirectedNode(t));
+            alt.printPath();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package GraphAlgorithms;
+
+import java.util.Arrays;
+
+/**
+ * Monotone priority queue of node labels (0 ... capacity-1) stored in buckets.
+ * Each bucket is a doubly linked list threaded through int arrays indexed by label,
+ * so that no object is allocated per element and a label can be moved in O(1).
+ * Monotone: a key given to insert or decreaseKey is never smaller than the last key removed,
+ * which is always the case in Dijkstra's algorithm with non-negative costs.
+ */
+public abstract class AbstractBucketQueue implements IPriorityQueue {
+
+    protected int[] keys;       // keys[label] is the key of label
+    protected int[] buckets;    // buckets[label] is the bucket holding label, -1 if it is not in the queue
+    protected int[] next;       // next[label] is the following label in its bucket, -1 at the end
+    protected int[] prev;       // prev[label] is the previous label in its bucket, -1 at the head
+    protected int[] heads;      // heads[b] is the first label of bucket b, -1 if it is empty
+    protected int size;
+
+    /**
+     * @param capacity the number of labels (labels are 0 ... capacity-1)
+     * @param nbBuckets the number of buckets
+     */
+    protected AbstractBucketQueue(int capacity, int nbBuckets) {
+        this.keys = new int[capacity];
+        this.buckets = new int[capacity];
+        this.next = new int[capacity];
+        this.prev = new int[capacity];
+        this.heads = new int[nbBuckets];
+        Arrays.fill(this.buckets, -1);
+        Arrays.fill(this.heads, -1);
+        this.size = 0;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean contains(int label) {
+        return this.buckets[label] != -1;
+    }
+
+    /**
+     * @return the key of label (meaningful while label is in the queue, or right after it was removed)
+     */
+    public int getKey(int label) {
+        return this.keys[label];
+    }
+
+    /**
+     * Empties the queue so that it can be reused
+     * @implNote Complexity: O(number of buckets + this.size)
+     */
+    @Override
+    public void clear() {
+        for (int b = 0; b < this.heads.length; b++) {
+            for (int label = this.heads[b]; label != -1; label = this.next[label]) {
+                this.buckets[label] = -1;
+            }
+            this.heads[b] = -1;
+        }
+        this.size = 0;
+    }
+
+    /**
+     * Pushes label at the head of bucket b.  O(1)
+     */
+    protected void link(int label, int b) {
+        int head = this.heads[b];
+        this.buckets[label] = b;
+        this.prev[label] = -1;
+        this.next[label] = head;
+        if (head != -1) {
+            this.prev[head] = label;
+        }
+        this.heads[b] = label;
+    }
+
+    /**
+     * Takes label out of its bucket.  O(1)
+     */
+    protected void unlink(int label) {
+        int p = this.prev[label];
+        int n = this.next[label];
+        if (p == -1) {
+            this.heads[this.buckets[label]] = n;
+        } else {
+            this.next[p] = n;
+        }
+        if (n != -1) {
+            this.prev[n] = p;
+        }
+        this.buckets[label] = -1;
+    }
+
+    public String toString() {
+        StringBuilder s = new StringBuilder();
+        for (int b = 0; b < this.heads.length; b++) {
+            for (int label = this.heads[b]; label != -1; label = this.next[label]) {
+                s.append(label).append("(").append(this.keys[label]).append("), ");
+            }
+        }
+        return s.toString();
+    }
+}
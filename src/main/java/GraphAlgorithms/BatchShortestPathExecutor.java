@@ -0,0 +1,122 @@
+package GraphAlgorithms;
+
+import AdjacencyList.DirectedValuedGraph;
+import CompressedSparseRow.CSRDirectedGraph;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs Dijkstra's algorithm from many sources of the same graph on a ForkJoin pool.
+ * The graph is read through one CSR snapshot, and each worker thread keeps its own DijkstraWorkspace
+ * (dist, pred and queue) from one run to the next and from one batch to the next, so a run allocates nothing.
+ * Each result is given to a ShortestPathConsumer instead of being kept.
+ */
+public class BatchShortestPathExecutor {
+
+    // below this many sources a task runs them itself instead of splitting
+    private static final int SEQUENTIAL_THRESHOLD = 4;
+
+    private final CSRDirectedGraph graph;
+
+    // the workspace of each worker thread
+    private final ThreadLocal<DijkstraWorkspace> workspaces;
+
+    public BatchShortestPathExecutor(DirectedValuedGraph graph){
+        this(new CSRDirectedGraph(graph));
+    }
+
+    /**
+     * @throws IllegalArgumentException if a cost of graph is negative
+     */
+    public BatchShortestPathExecutor(CSRDirectedGraph graph){
+        if (graph.getWeights() != null){
+            for (int w : graph.getWeights()){
+                if (w < 0){
+                    throw new IllegalArgumentException("Dijkstra's algorithm needs non-negative costs, found " + w);
+                }
+            }
+        }
+        this.graph = graph;
+        this.workspaces = ThreadLocal.withInitial(() -> new DijkstraWorkspace(this.graph));
+    }
+
+    public CSRDirectedGraph getGraph() {
+        return this.graph;
+    }
+
+    public void execBatch(int[] sources, ShortestPathConsumer consumer){
+        this.execBatch(sources, consumer, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Runs Dijkstra's algorithm from each of the sources, on pool.
+     * @param consumer called once per source, from the worker threads (concurrently, in no particular order)
+     */
+    public void execBatch(int[] sources, ShortestPathConsumer consumer, ForkJoinPool pool){
+        // Complexity: one run of Dijkstra per source, split over the workers
+        pool.invoke(new BatchTask(sources, 0, sources.length, consumer));
+    }
+
+    /**
+     * The runs from sources[from ... to-1], split in halves while there are many (so idle workers can steal them)
+     */
+    private final class BatchTask extends RecursiveAction {
+        private final int[] sources;
+        private final int from, to;
+        private final ShortestPathConsumer consumer;
+
+        BatchTask(int[] sources, int from, int to, ShortestPathConsumer consumer){
+            this.sources = sources;
+            this.from = from;
+            this.to = to;
+            this.consumer = consumer;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= SEQUENTIAL_THRESHOLD){
+                DijkstraWorkspace workspace = workspaces.get();
+                for (int i = this.from; i < this.to; i++){
+                    workspace.run(this.sources[i]);
+                    this.consumer.accept(this.sources[i], workspace.dist, workspace.pred);
+                }
+            } else {
+                int middle = (this.from + this.to) >>> 1;
+                invokeAll(new BatchTask(this.sources, this.from, middle, this.consumer),
+                        new BatchTask(this.sources, middle, this.to, this.consumer));
+            }
+        }
+    }
+
+    public static void main(String[] args) {
+        int[][] matrixValued = GraphTools.generateValuedGraphData(20, false, false, true, false, 100001);
+        DirectedValuedGraph graph = new DirectedValuedGraph(matrixValued);
+        BatchShortestPathExecutor executor = new BatchShortestPathExecutor(graph);
+
+        // all the sources: the sum of the reachable distances, and the distance matrix
+        int n = graph.getNbNodes();
+        int[] sources = new int[n];
+        for (int s = 0; s < n; s++){
+            sources[s] = s;
+        }
+        AtomicLong total = new AtomicLong();
+        int[][] distances = new int[n][];
+        executor.execBatch(sources, (src, dist, pred) -> {
+            long sum = 0;
+            for (int d : dist){
+                if (d != Integer.MAX_VALUE){
+                    sum += d;
+                }
+            }
+            total.addAndGet(sum);
+            distances[src] = Arrays.copyOf(dist, dist.length);   // each source has its own row, no race
+        });
+        System.out.println("sum of the distances = " + total.get());
+        for (int[] row : distances){
+            System.out.println(Arrays.toString(row));
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package GraphAlgorithms;
 
 import AdjacencyList.DirectedValuedGraph;
+import CompressedSparseRow.CSRDirectedGraph;
 import Nodes.DirectedNode;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -20,6 +22,9 @@ public class BellmanAlgorithm {
 
     public Map<DirectedNode,Integer> dist;
 
+    // result of the queue mode
+    public BellmanResult result;
+
     public BellmanAlgorithm(DirectedValuedGraph graph, DirectedNode src){
         this.graph = graph;
         this.src = graph.getNodes().get(src.getLabel());
@@ -40,8 +45,10 @@ public class BellmanAlgorithm {
         this.pred.put(this.src,this.src);
 
 
-        // n-1 iterations   O(n*m)
-        for (int k=1 ; k<=this.graph.getNbNodes()-1 ; k++){
+        // at most n-1 iterations, stopping at the first one that changes nothing   O(n*m)
+        boolean changed = true;
+        for (int k=1 ; k<=this.graph.getNbNodes()-1 && changed ; k++){
+            changed = false;
             // come across all arcs (u,v) of the graph  O(m), with m the number of arcs
             for (DirectedNode u : this.graph.getNodes()){
                 for (DirectedNode v : u.getSuccs().keySet()){
@@ -50,9 +57,10 @@ public class BellmanAlgorithm {
                     Integer du = this.dist.get(u);
                     Integer weight_uv = u.getSuccs().get(v);
                     // if there's an improving distance, update it      O(1)
-                    if (dv > du + weight_uv){
+                    if (du != Integer.MAX_VALUE && dv > du + weight_uv){
                         this.dist.put(v, du + weight_uv);
                         this.pred.put(v, u);
+                        changed = true;
                     }
                 }
             }
@@ -66,7 +74,7 @@ public class BellmanAlgorithm {
                 Integer du = this.dist.get(u);
                 Integer weight_uv = u.getSuccs().get(v);
                 // if there's an improving distance, update it
-                if (dv > du + weight_uv){
+                if (du != Integer.MAX_VALUE && dv > du + weight_uv){
                     System.out.println("There's a negative weight cycle!");
                 }
             }
@@ -74,6 +82,136 @@ public class BellmanAlgorithm {
 
     }
 
+    /**
+     * Queue mode: Bellman-Ford from src with a work-list (see the static execBellmanQueue), the result is kept in result.
+     */
+    public BellmanResult execBellmanQueue(){
+        CSRDirectedGraph csr = new CSRDirectedGraph(this.graph);   // O(n+m)
+        this.result = execBellmanQueue(csr, new int[]{this.src.getLabel()});
+        return this.result;
+    }
+
+    /**
+     * Bellman-Ford with a work-list (SPFA): only the successors of a node whose distance dropped are relaxed again,
+     * and the run ends as soon as the list is empty. The list is a deque with two heuristics:
+     * SLF (Small Label First) puts a node at the front if it is closer than the current front,
+     * LLL (Large Label Last) moves the front to the back while it is farther than the average of the list.
+     * A negative cycle is detected when a shortest path reaches n arcs, it is then taken from the predecessors.
+     * @param sources the nodes at distance 0 (several sources act as a virtual source linked to all of them)
+     * @return the distances and predecessors, and the negative cycle found if any
+     */
+    public static BellmanResult execBellmanQueue(CSRDirectedGraph graph, int[] sources){
+        // Complexity: O(n*m) in the worst case, close to O(m) in practice
+        int n = graph.getNbNodes();
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int[] weights = graph.getWeights();
+        int[] dist = new int[n];
+        int[] pred = new int[n];
+        int[] length = new int[n];          // number of arcs of the current path to each node
+        boolean[] inQueue = new boolean[n];
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        Arrays.fill(pred, -1);
+
+        // circular deque, each node is at most once in it
+        int[] deque = new int[n + 1];
+        int head = 0;
+        int size = 0;
+        long sum = 0;   // sum of the distances of the nodes in the deque, for LLL
+
+        for (int s : sources){
+            if (!inQueue[s]){
+                dist[s] = 0;
+                pred[s] = s;
+                inQueue[s] = true;
+                deque[(head + size) % deque.length] = s;
+                size++;
+            }
+        }
+
+        while (size > 0){
+            // LLL: the front goes to the back while its distance is above the average
+            for (int tries = size; tries > 1 && (long) dist[deque[head]] * size > sum; tries--){
+                deque[(head + size) % deque.length] = deque[head];
+                head = (head + 1) % deque.length;
+            }
+            int u = deque[head];
+            head = (head + 1) % deque.length;
+            size--;
+            sum -= dist[u];
+            inQueue[u] = false;
+
+            int du = dist[u];
+            for (int a = offsets[u]; a < offsets[u + 1]; a++){
+                int v = targets[a];
+                int dv = du + (weights == null ? 0 : weights[a]);
+                if (dv < dist[v]){
+                    if (v == u){
+                        // a negative loop, which findPredCycle cannot tell from a source (pred[s] == s)
+                        return new BellmanResult(dist, pred, new int[]{u});
+                    }
+                    if (inQueue[v]){
+                        sum -= dist[v] - dv;
+                    }
+                    dist[v] = dv;
+                    pred[v] = u;
+                    length[v] = length[u] + 1;
+                    if (length[v] >= n){
+                        int[] cycle = findPredCycle(pred);
+                        if (cycle.length > 0){
+                            return new BellmanResult(dist, pred, cycle);
+                        }
+                    }
+                    if (!inQueue[v]){
+                        inQueue[v] = true;
+                        sum += dv;
+                        if (size > 0 && dv < dist[deque[head]]){
+                            // SLF: closer than the front, v goes first
+                            head = (head - 1 + deque.length) % deque.length;
+                            deque[head] = v;
+                        } else {
+                            deque[(head + size) % deque.length] = v;
+                        }
+                        size++;
+                    }
+                }
+            }
+        }
+        return new BellmanResult(dist, pred, new int[0]);
+    }
+
+    /**
+     * Looks for a cycle in the graph of the predecessors (v -> pred[v]), which is a negative cycle of the graph
+     * @return its labels in the order of the arcs of the graph, an empty array if there is none
+     */
+    static int[] findPredCycle(int[] pred){
+        // Complexity: O(n), each node is walked through once
+        int n = pred.length;
+        int[] walk = new int[n];    // walk[v] = 1 + the start of the walk that reached v, 0 if not reached yet
+        for (int start = 0; start < n; start++){
+            int v = start;
+            while (v != -1 && walk[v] == 0){
+                walk[v] = start + 1;
+                v = pred[v] == v ? -1 : pred[v];
+            }
+            if (v != -1 && walk[v] == start + 1){
+                // v is on a cycle found by this walk: pred goes backwards along the arcs
+                int size = 1;
+                for (int x = pred[v]; x != v; x = pred[x]){
+                    size++;
+                }
+                int[] cycle = new int[size];
+                int x = v;
+                for (int k = size - 1; k >= 0; k--){
+                    cycle[k] = x;
+                    x = pred[x];
+                }
+                return cycle;
+            }
+        }
+        return new int[0];
+    }
+
     public Map<DirectedNode,DirectedNode> getPred(){
         return this.pred;
     }
@@ -118,6 +256,15 @@ public class BellmanAlgorithm {
         instanceBellman.execBellmanAlgorithm();
         instanceBellman.printBellman();
 
+        // same graph with the work-list
+        System.out.println("\nWith the work-list:");
+        System.out.print(instanceBellman.execBellmanQueue());
+
+        // the arc (6,4) of cost -5 makes the cycle 4 -> 6 -> 4 negative
+        graph.addArc(new DirectedNode(6), new DirectedNode(4),-5);
+        System.out.println("\nWith the arc (6,4) of cost -5:");
+        System.out.print(new BellmanAlgorithm(graph,new DirectedNode(0)).execBellmanQueue());
+
     }
 
 
@@ -0,0 +1,52 @@
+package GraphAlgorithms;
+
+import java.util.Arrays;
+
+/**
+ * Result of a Bellman-Ford run, indexed by label.
+ * If a negative cycle is reachable from a source, negativeCycle holds its labels in the order of its arcs
+ * (the arc from the last label back to the first one closes it) and dist/pred are the values at the time it was found.
+ */
+public class BellmanResult {
+
+    // dist[v] is the distance to v, Integer.MAX_VALUE if unreachable
+    public final int[] dist;
+
+    // pred[v] is the predecessor of v on a shortest path, v itself for a source and -1 if unreachable
+    public final int[] pred;
+
+    // the labels of a negative cycle, an empty array if there is none
+    public final int[] negativeCycle;
+
+    public BellmanResult(int[] dist, int[] pred, int[] negativeCycle) {
+        this.dist = dist;
+        this.pred = pred;
+        this.negativeCycle = negativeCycle;
+    }
+
+    public int[] getDist() {
+        return this.dist;
+    }
+
+    public int[] getPred() {
+        return this.pred;
+    }
+
+    public int[] getNegativeCycle() {
+        return this.negativeCycle;
+    }
+
+    public boolean hasNegativeCycle() {
+        return this.negativeCycle.length > 0;
+    }
+
+    public String toString() {
+        StringBuilder s = new StringBuilder();
+        if (this.hasNegativeCycle()) {
+            s.append("negative cycle = ").append(Arrays.toString(this.negativeCycle)).append("\n");
+        }
+        s.append("dist = ").append(Arrays.toString(this.dist)).append("\n");
+        s.append("pred = ").append(Arrays.toString(this.pred)).append("\n");
+        return s.toString();
+    }
+}
@@ -0,0 +1,251 @@
+package GraphAlgorithms;
+
+import AdjacencyList.DirectedValuedGraph;
+import Nodes.DirectedNode;
+import Nodes.NeighbourMap;
+
+import java.util.Arrays;
+
+/**
+ * Point-to-point shortest path queries (src -> dst) on non-negative costs.
+ * A forward Dijkstra from src over the successors and a backward Dijkstra from dst over the predecessors
+ * run in turn, and the query stops as soon as no path through an unsettled node can beat the best one found,
+ * so only the nodes around src and dst are settled instead of the whole graph.
+ * The buffers are kept from one query to the next and only the labels touched by a query are reset.
+ */
+public class BidirectionalDijkstraAlgorithm {
+
+    // given directed valued graph
+    public DirectedValuedGraph graph;
+
+    // forward search from src: distances and predecessors
+    public int[] distForward;
+
+    public int[] predForward;
+
+    // backward search from dst: distances to dst and successors on the way to dst
+    public int[] distBackward;
+
+    public int[] succBackward;
+
+    private final IndexedBinaryHeap heapForward;
+
+    private final IndexedBinaryHeap heapBackward;
+
+    // labels whose distances were set by the last query, to reset them before the next one
+    private final int[] touched;
+
+    private int nbTouched;
+
+    // results of the last query
+    public int distance;
+
+    public int[] path;
+
+    public int nbSettled;
+
+    public BidirectionalDijkstraAlgorithm(DirectedValuedGraph graph){
+        int n = graph.getNbNodes();
+        this.graph = graph;
+        this.distForward = new int[n];
+        this.predForward = new int[n];
+        this.distBackward = new int[n];
+        this.succBackward = new int[n];
+        Arrays.fill(this.distForward, Integer.MAX_VALUE);
+        Arrays.fill(this.distBackward, Integer.MAX_VALUE);
+        this.heapForward = new IndexedBinaryHeap(n);
+        this.heapBackward = new IndexedBinaryHeap(n);
+        this.touched = new int[n];
+        this.nbTouched = 0;
+    }
+
+    /**
+     * Computes a shortest path from src to dst.
+     * @return the labels of the path from src to dst (both included), an empty array if dst is unreachable
+     */
+    public int[] execBidirectionalDijkstra(DirectedNode src, DirectedNode dst){
+        // Complexity: O((n'+m')*log_2(n')) where n' and m' count the nodes settled by the query and their arcs
+        this.reset();
+        int s = src.getLabel();
+        int t = dst.getLabel();
+        this.nbSettled = 0;
+
+        this.touch(s);
+        this.distForward[s] = 0;
+        this.predForward[s] = s;
+        this.heapForward.insert(s, 0);
+        if (t != s) {
+            this.touch(t);
+        }
+        this.distBackward[t] = 0;
+        this.succBackward[t] = t;
+        this.heapBackward.insert(t, 0);
+
+        // best path found so far: mu = distForward[meetFrom] + cost(meetFrom,meetTo) + distBackward[meetTo]
+        long mu = s == t ? 0 : Long.MAX_VALUE;
+        int meetFrom = s;
+        int meetTo = -1;    // -1 while the path is only src = dst
+
+        while (!this.heapForward.isEmpty() && !this.heapBackward.isEmpty()){
+            long topForward = this.heapForward.getKey(this.heapForward.peek());
+            long topBackward = this.heapBackward.getKey(this.heapBackward.peek());
+            // any path not found yet goes through a node unsettled on both sides, so it costs at least this
+            if (topForward + topBackward >= mu){
+                break;
+            }
+            this.nbSettled++;
+            // expand the side with fewer waiting nodes, so that both balls stay small
+            if (this.heapForward.size() <= this.heapBackward.size()){
+                int x = this.heapForward.removeMin();
+                int dx = this.distForward[x];
+                NeighbourMap<DirectedNode> succs = this.graph.getNodes().get(x).getSuccs();
+                for (int i = 0; i < succs.size(); i++){ // O(d⁺(x)*log_2(n'))
+                    int y = succs.labelAt(i);
+                    int dy = dx + succs.valueAt(i);
+                    if (dy < this.distForward[y]){
+                        if (this.distForward[y] == Integer.MAX_VALUE && this.distBackward[y] == Integer.MAX_VALUE){
+                            this.touch(y);
+                        }
+                        this.distForward[y] = dy;
+                        this.predForward[y] = x;
+                        this.heapForward.insertOrDecrease(y, dy);
+                    }
+                    if (this.distBackward[y] != Integer.MAX_VALUE && (long) dy + this.distBackward[y] < mu){
+                        mu = (long) dy + this.distBackward[y];
+                        meetFrom = x;
+                        meetTo = y;
+                    }
+                }
+            } else {
+                int x = this.heapBackward.removeMin();
+                int dx = this.distBackward[x];
+                NeighbourMap<DirectedNode> preds = this.graph.getNodes().get(x).getPreds();
+                for (int i = 0; i < preds.size(); i++){ // O(d⁻(x)*log_2(n'))
+                    int y = preds.labelAt(i);
+                    int dy = dx + preds.valueAt(i);
+                    if (dy < this.distBackward[y]){
+                        if (this.distForward[y] == Integer.MAX_VALUE && this.distBackward[y] == Integer.MAX_VALUE){
+                            this.touch(y);
+                        }
+                        this.distBackward[y] = dy;
+                        this.succBackward[y] = x;
+                        this.heapBackward.insertOrDecrease(y, dy);
+                    }
+                    if (this.distForward[y] != Integer.MAX_VALUE && (long) dy + this.distForward[y] < mu){
+                        mu = (long) dy + this.distForward[y];
+                        meetFrom = y;
+                        meetTo = x;
+                    }
+                }
+            }
+        }
+
+        if (mu == Long.MAX_VALUE){
+            this.distance = Integer.MAX_VALUE;
+            this.path = new int[0];
+        } else {
+            this.distance = (int) mu;
+            this.path = this.buildPath(s, t, meetFrom, meetTo);
+        }
+        return this.path;
+    }
+
+    /**
+     * @return the path src -> meetFrom (forward predecessors), then meetTo -> dst (backward successors) if meetTo != -1
+     */
+    private int[] buildPath(int s, int t, int meetFrom, int meetTo){
+        int forwardLength = 1;
+        for (int x = meetFrom; x != s; x = this.predForward[x]){
+            forwardLength++;
+        }
+        int backwardLength = 0;
+        if (meetTo != -1){
+            backwardLength = 1;
+            for (int x = meetTo; x != t; x = this.succBackward[x]){
+                backwardLength++;
+            }
+        }
+        int[] p = new int[forwardLength + backwardLength];
+        int x = meetFrom;
+        for (int k = forwardLength - 1; k >= 0; k--){
+            p[k] = x;
+            x = this.predForward[x];
+        }
+        x = meetTo;
+        for (int k = forwardLength; k < p.length; k++){
+            p[k] = x;
+            x = this.succBackward[x];
+        }
+        return p;
+    }
+
+    private void touch(int x){
+        this.touched[this.nbTouched++] = x;
+    }
+
+    /**
+     * Forgets the last query.  O(number of labels it touched)
+     */
+    private void reset(){
+        for (int i = 0; i < this.nbTouched; i++){
+            this.distForward[this.touched[i]] = Integer.MAX_VALUE;
+            this.distBackward[this.touched[i]] = Integer.MAX_VALUE;
+        }
+        this.nbTouched = 0;
+        this.heapForward.clear();
+        this.heapBackward.clear();
+    }
+
+    public int getDistance() {
+        return this.distance;
+    }
+
+    public int[] getPath() {
+        return this.path;
+    }
+
+    public int getNbSettled() {
+        return this.nbSettled;
+    }
+
+    public void printPath(){
+        if (this.path == null) {
+            System.out.println("No query yet, please run the algorithm first");
+        } else if (this.path.length == 0) {
+            System.out.println("dst is unreachable");
+        } else {
+            System.out.println("dist = " + this.distance + "   ;    path = " + Arrays.toString(this.path)
+                    + "   ;    settled nodes = " + this.nbSettled);
+        }
+    }
+
+    public static void main(String[] args) {
+        // Graph from course's example (same as DijkstraAlgorithm)
+        int A = 0, B=1, C=2, D=3, E=4, F=5, G=6, H=7;
+        DirectedValuedGraph graph = new DirectedValuedGraph(new int[8][8]);
+        graph.addArc(new DirectedNode(A), new DirectedNode(B),2);
+        graph.addArc(new DirectedNode(A), new DirectedNode(C),6);
+        graph.addArc(new DirectedNode(B), new DirectedNode(D),1);
+        graph.addArc(new DirectedNode(B), new DirectedNode(H),1);
+        graph.addArc(new DirectedNode(C), new DirectedNode(B),3);
+        graph.addArc(new DirectedNode(C), new DirectedNode(G),2);
+        graph.addArc(new DirectedNode(C), new DirectedNode(F),2);
+        graph.addArc(new DirectedNode(D), new DirectedNode(C),2);
+        graph.addArc(new DirectedNode(D), new DirectedNode(G),6);
+        graph.addArc(new DirectedNode(D), new DirectedNode(E),7);
+        graph.addArc(new DirectedNode(E), new DirectedNode(B),3);
+        graph.addArc(new DirectedNode(E), new DirectedNode(H),2);
+        graph.addArc(new DirectedNode(F), new DirectedNode(D),1);
+        graph.addArc(new DirectedNode(F), new DirectedNode(E),4);
+        graph.addArc(new DirectedNode(G), new DirectedNode(A),1);
+        graph.addArc(new DirectedNode(G), new DirectedNode(F),2);
+        graph.addArc(new DirectedNode(H), new DirectedNode(F),3);
+
+        BidirectionalDijkstraAlgorithm bidir = new BidirectionalDijkstraAlgorithm(graph);
+        for (int t = 0; t < 8; t++){
+            System.out.print("A -> " + t + " : ");
+            bidir.execBidirectionalDijkstra(new DirectedNode(A), new DirectedNode(t));
+            bidir.printPath();
+        }
+    }
+}
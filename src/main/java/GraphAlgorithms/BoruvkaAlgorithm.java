@@ -0,0 +1,291 @@
+package GraphAlgorithms;
+
+import AdjacencyList.UndirectedValuedGraph;
+import Nodes.NeighbourMap;
+import Nodes.UndirectedNode;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Borůvka's minimum spanning tree, in parallel. Each round:
+ *  * every component finds its lightest outgoing edge (the edges are split into ranges scanned in parallel,
+ *    the minimum being kept with a compare-and-set per component),
+ *  * the components are merged along these edges through a lock-free union-find (a root is linked with a compare-and-set),
+ *  * the graph is contracted: the edges inside a component are dropped and the others are relabelled by their components.
+ * The number of components at least halves at each round, so there are at most log_2(n) rounds.
+ * Equal costs are broken by the index of the edge, so the chosen edges never make a cycle.
+ */
+public class BoruvkaAlgorithm {
+
+    // atomic access to the cells of an int[] and of a long[]
+    private static final VarHandle INT_ARRAY = MethodHandles.arrayElementVarHandle(int[].class);
+    private static final VarHandle LONG_ARRAY = MethodHandles.arrayElementVarHandle(long[].class);
+
+    // no outgoing edge found (yet) for a component
+    private static final long NONE = Long.MAX_VALUE;
+
+    public UndirectedValuedGraph graph;
+
+    // edge e links edgeFrom[e] and edgeTo[e] with the cost edgeCost[e]
+    public int[] edgeFrom;
+
+    public int[] edgeTo;
+
+    public int[] edgeCost;
+
+    public UndirectedValuedGraph minSpanningTree;
+
+    public int cost;
+
+    // number of rounds of the last run
+    public int nbRounds;
+
+    public BoruvkaAlgorithm(UndirectedValuedGraph graph){
+        // Complexity: O(n+m)
+        this.graph = graph;
+        int nbEdges = 0;
+        for (UndirectedNode u : graph.getNodes()){
+            NeighbourMap<UndirectedNode> neighbours = u.getNeighbours();
+            for (int i = 0; i < neighbours.size(); i++){
+                if (neighbours.labelAt(i) > u.getLabel()){
+                    nbEdges++;
+                }
+            }
+        }
+        this.edgeFrom = new int[nbEdges];
+        this.edgeTo = new int[nbEdges];
+        this.edgeCost = new int[nbEdges];
+        int e = 0;
+        for (UndirectedNode u : graph.getNodes()){
+            NeighbourMap<UndirectedNode> neighbours = u.getNeighbours();
+            for (int i = 0; i < neighbours.size(); i++){
+                // each edge once, from its smallest end (loops never leave a component)
+                if (neighbours.labelAt(i) > u.getLabel()){
+                    this.edgeFrom[e] = u.getLabel();
+                    this.edgeTo[e] = neighbours.labelAt(i);
+                    this.edgeCost[e] = neighbours.valueAt(i);
+                    e++;
+                }
+            }
+        }
+    }
+
+    public void execBoruvka(){
+        this.execBoruvka(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Fills minSpanningTree and cost (a minimum spanning forest if the graph is not connected)
+     */
+    public void execBoruvka(ForkJoinPool pool){
+        // Complexity: O(m*log_2(n)) work in the worst case, each round split over the workers
+        int n = this.graph.getNbNodes();
+        int[] parent = new int[n];
+        for (int v = 0; v < n; v++){
+            parent[v] = v;
+        }
+        long[] best = new long[n];
+        boolean[] inTree = new boolean[this.edgeCost.length];
+
+        // edges still linking two components: their index and their ends (relabelled by components)
+        int[] ids = new int[this.edgeCost.length];
+        int[] ends = new int[2 * this.edgeCost.length];
+        for (int e = 0; e < ids.length; e++){
+            ids[e] = e;
+            ends[2 * e] = this.edgeFrom[e];
+            ends[2 * e + 1] = this.edgeTo[e];
+        }
+        int nbEdges = ids.length;
+        int nbTasks = 4 * pool.getParallelism();
+        this.nbRounds = 0;
+
+        while (nbEdges > 0){
+            this.nbRounds++;
+            Arrays.fill(best, NONE);
+
+            // 1. lightest outgoing edge of each component
+            List<RecursiveAction> tasks = new ArrayList<>();
+            for (int t = 0; t < nbTasks; t++){
+                int from = (int) ((long) nbEdges * t / nbTasks);
+                int to = (int) ((long) nbEdges * (t + 1) / nbTasks);
+                tasks.add(new RecursiveAction() {
+                    @Override
+                    protected void compute() {
+                        for (int k = from; k < to; k++){
+                            int e = ids[k];
+                            long key = ((long) edgeCost[e] << 32) | e;
+                            atomicMin(best, ends[2 * k], key);
+                            atomicMin(best, ends[2 * k + 1], key);
+                        }
+                    }
+                });
+            }
+            invokeAll(pool, tasks);
+
+            // 2. merge along these edges; an edge chosen by both its components is only added once
+            tasks.clear();
+            for (int t = 0; t < nbTasks; t++){
+                int from = (int) ((long) n * t / nbTasks);
+                int to = (int) ((long) n * (t + 1) / nbTasks);
+                tasks.add(new RecursiveAction() {
+                    @Override
+                    protected void compute() {
+                        for (int c = from; c < to; c++){
+                            if (best[c] != NONE){
+                                int e = (int) best[c];
+                                if (union(parent, edgeFrom[e], edgeTo[e])){
+                                    // read after the join, which makes it visible
+                                    inTree[e] = true;
+                                }
+                            }
+                        }
+                    }
+                });
+            }
+            invokeAll(pool, tasks);
+
+            // 3. contraction: each task keeps the edges of its range still linking two components, at the start of the range
+            int[] kept = new int[nbTasks];
+            tasks.clear();
+            for (int t = 0; t < nbTasks; t++){
+                int task = t;
+                int from = (int) ((long) nbEdges * t / nbTasks);
+                int to = (int) ((long) nbEdges * (t + 1) / nbTasks);
+                tasks.add(new RecursiveAction() {
+                    @Override
+                    protected void compute() {
+                        int size = from;
+                        for (int k = from; k < to; k++){
+                            int cu = find(parent, ends[2 * k]);
+                            int cv = find(parent, ends[2 * k + 1]);
+                            if (cu != cv){
+                                ids[size] = ids[k];
+                                ends[2 * size] = cu;
+                                ends[2 * size + 1] = cv;
+                                size++;
+                            }
+                        }
+                        kept[task] = size - from;
+                    }
+                });
+            }
+            invokeAll(pool, tasks);
+            int size = 0;
+            for (int t = 0; t < nbTasks; t++){
+                int from = (int) ((long) nbEdges * t / nbTasks);
+                System.arraycopy(ids, from, ids, size, kept[t]);
+                System.arraycopy(ends, 2 * from, ends, 2 * size, 2 * kept[t]);
+                size += kept[t];
+            }
+            nbEdges = size;
+        }
+
+        // the tree     O(n+m)
+        this.minSpanningTree = new UndirectedValuedGraph(n);
+        this.cost = 0;
+        for (int e = 0; e < inTree.length; e++){
+            if (inTree[e]){
+                this.cost += this.edgeCost[e];
+                this.minSpanningTree.addEdge(new UndirectedNode(this.edgeFrom[e]), new UndirectedNode(this.edgeTo[e]), this.edgeCost[e]);
+            }
+        }
+    }
+
+    private static void invokeAll(ForkJoinPool pool, List<RecursiveAction> tasks){
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                ForkJoinTask.invokeAll(tasks);
+            }
+        });
+    }
+
+    /**
+     * Replaces best[c] by key if key is smaller, atomically
+     */
+    private static void atomicMin(long[] best, int c, long key){
+        long old = (long) LONG_ARRAY.getVolatile(best, c);
+        while (key < old && !LONG_ARRAY.compareAndSet(best, c, old, key)){
+            old = (long) LONG_ARRAY.getVolatile(best, c);
+        }
+    }
+
+    /**
+     * @return the root of x; the path is halved on the way, a lost compare-and-set is harmless
+     */
+    private static int find(int[] parent, int x){
+        int p = (int) INT_ARRAY.getVolatile(parent, x);
+        while (p != x){
+            int gp = (int) INT_ARRAY.getVolatile(parent, p);
+            if (gp != p){
+                INT_ARRAY.compareAndSet(parent, x, p, gp);
+            }
+            x = p;
+            p = gp;
+        }
+        return x;
+    }
+
+    /**
+     * Links the components of x and y, the root with the largest label under the other one
+     * @return false if they were already the same component (possibly merged by another worker)
+     */
+    private static boolean union(int[] parent, int x, int y){
+        while (true){
+            int rx = find(parent, x);
+            int ry = find(parent, y);
+            if (rx == ry){
+                return false;
+            }
+            int low = Math.min(rx, ry);
+            int high = Math.max(rx, ry);
+            // fails if high is no longer a root, then start again from the new roots
+            if (INT_ARRAY.compareAndSet(parent, high, high, low)){
+                return true;
+            }
+        }
+    }
+
+    public int getCost() {
+        return this.cost;
+    }
+
+    public UndirectedValuedGraph getMinSpanningTree(){
+        return this.minSpanningTree;
+    }
+
+    public int getNbRounds() {
+        return this.nbRounds;
+    }
+
+    public static void main(String[] args) {
+        // Graph from course's example (same as PrimAlgorithm)
+        int A = 0, B=1, C=2, D=3, E=4, F=5, G=6, H=7;
+        UndirectedValuedGraph graph = new UndirectedValuedGraph(new int[8][8]);
+        graph.addEdge(new UndirectedNode(A), new UndirectedNode(B),4);
+        graph.addEdge(new UndirectedNode(A), new UndirectedNode(D),6);
+        graph.addEdge(new UndirectedNode(A), new UndirectedNode(G),2);
+        graph.addEdge(new UndirectedNode(B), new UndirectedNode(E),5);
+        graph.addEdge(new UndirectedNode(B), new UndirectedNode(C),2);
+        graph.addEdge(new UndirectedNode(C), new UndirectedNode(E),6);
+        graph.addEdge(new UndirectedNode(C), new UndirectedNode(H),5);
+        graph.addEdge(new UndirectedNode(C), new UndirectedNode(D),7);
+        graph.addEdge(new UndirectedNode(D), new UndirectedNode(F),8);
+        graph.addEdge(new UndirectedNode(F), new UndirectedNode(G),7);
+        graph.addEdge(new UndirectedNode(F), new UndirectedNode(H),3);
+        graph.addEdge(new UndirectedNode(H), new UndirectedNode(G),5);
+        graph.addEdge(new UndirectedNode(G), new UndirectedNode(E),4);
+
+        BoruvkaAlgorithm boruvka = new BoruvkaAlgorithm(graph);
+        boruvka.execBoruvka();
+        System.out.println("cost = " + boruvka.getCost() + " in " + boruvka.getNbRounds() + " rounds");
+        System.out.println("resulting minimum spanning tree:\n" + boruvka.getMinSpanningTree());
+    }
+}
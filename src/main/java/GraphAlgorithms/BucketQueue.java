@@ -0,0 +1,100 @@
+package GraphAlgorithms;
+
+/**
+ * Dial's bucket queue: a circular array of maxCost+1 buckets, one per key value.
+ * While the keys in the queue lie in [min, min + maxCost], key k is in bucket k mod (maxCost+1),
+ * which holds for Dijkstra's algorithm when no cost exceeds maxCost.
+ * There is no comparison between keys, removeMin just walks to the next non-empty bucket.
+ */
+public class BucketQueue extends AbstractBucketQueue {
+
+    private int current;    // the last key removed, every key in the queue is in [current, current + maxCost]
+
+    /**
+     * @param capacity the number of labels (labels are 0 ... capacity-1)
+     * @param maxCost the largest difference between two keys of the queue (the largest arc cost)
+     */
+    public BucketQueue(int capacity, int maxCost) {
+        super(capacity, maxCost + 1);
+        this.current = 0;
+    }
+
+    private int bucketOf(int key) {
+        return key % this.heads.length;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        this.current = 0;
+    }
+
+    /**
+     * Inserts label with the given key (in [last key removed, last key removed + maxCost]), label must not be in the queue
+     * @implNote Complexity: O(1)
+     */
+    @Override
+    public void insert(int label, int key) {
+        this.keys[label] = key;
+        this.link(label, this.bucketOf(key));
+        this.size++;
+    }
+
+    /**
+     * Lowers the key of label, which must be in the queue
+     * @implNote Complexity: O(1)
+     */
+    @Override
+    public void decreaseKey(int label, int key) {
+        this.unlink(label);
+        this.keys[label] = key;
+        this.link(label, this.bucketOf(key));
+    }
+
+    /**
+     * Removes a label with the smallest key
+     * @return that label
+     * @implNote Complexity: O(1) amortized over a run, plus the number of empty buckets skipped (at most maxCost)
+     */
+    @Override
+    public int removeMin() {
+        int b = this.bucketOf(this.current);
+        while (this.heads[b] == -1) {
+            this.current++;
+            b++;
+            if (b == this.heads.length) {
+                b = 0;
+            }
+        }
+        int min = this.heads[b];
+        this.unlink(min);
+        this.size--;
+        return min;
+    }
+
+    public static void main(String[] args) {
+        int k = 20;
+        int maxCost = 15;
+        BucketQueue queue = new BucketQueue(k, maxCost);
+        System.out.println("is it empty: " + queue.isEmpty() + "\n");
+
+        // keys in [0, maxCost], as for the successors of the source
+        for (int label = 0; label < k; label++) {
+            int rand = (int) (Math.random() * (maxCost + 1));
+            System.out.print("insert " + label + "(" + rand + ")  ");
+            queue.insert(label, rand);
+        }
+        System.out.println("\n" + queue);
+
+        System.out.println("\n--- decrease key of " + (k - 1) + " to 0 ---");
+        queue.decreaseKey(k - 1, 0);
+        System.out.println(queue);
+
+        System.out.println("\n--- Remove all labels in order ---");
+        while (!queue.isEmpty()) {
+            int label = queue.removeMin();
+            System.out.print(label + "(" + queue.getKey(label) + ") ");
+        }
+        System.out.println();
+    }
+}
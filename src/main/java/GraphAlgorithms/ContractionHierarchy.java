@@ -0,0 +1,435 @@
+package GraphAlgorithms;
+
+import AdjacencyList.DirectedValuedGraph;
+import CompressedSparseRow.CSRDirectedGraph;
+import Nodes.DirectedNode;
+import Nodes.NeighbourMap;
+
+import java.util.Arrays;
+
+/**
+ * Contraction hierarchies for repeated distance queries on a static graph with non-negative costs.
+ * Preprocessing contracts the nodes one by one, in the order of their edge difference: contracting x
+ * removes it and adds a shortcut (u,v) of cost c(u,x)+c(x,v) for every pair u -> x -> v, unless a witness
+ * search finds a path from u to v avoiding x that is not longer. The rank of a node is its contraction order.
+ * A query is a bidirectional Dijkstra that only goes up the ranks: forward over the upward graph
+ * (arcs to higher ranks) from src, and backward over the downward graph (arcs from higher ranks, reversed) from dst.
+ */
+public class ContractionHierarchy {
+
+    // a witness search gives up after settling this many nodes (and a shortcut is added)
+    public static final int WITNESS_SETTLED_LIMIT = 500;
+
+    // given directed valued graph
+    public DirectedValuedGraph graph;
+
+    // rank[v] is the contraction order of v
+    public int[] rank;
+
+    // upward[u] = arcs (u,v) with rank[u] < rank[v]; downward[v] = arcs (u,v) with rank[u] > rank[v], stored as (v,u)
+    public CSRDirectedGraph upward;
+
+    public CSRDirectedGraph downward;
+
+    public int nbShortcuts;
+
+    // the graph being contracted: out and in adjacency lists, original arcs and shortcuts (minimum cost kept)
+    private int[][] outNodes, outCosts, inNodes, inCosts;
+    private int[] outDegrees, inDegrees;
+    private boolean[] contracted;
+    private int[] deletedNeighbours;
+
+    // buffers of the witness searches and of the queries, reset per touched label
+    private int[] dist, distBackward;
+    private int[] touched;
+    private int nbTouched;
+    private IndexedBinaryHeap heap, heapBackward;
+
+    // results of the last query
+    public int distance;
+
+    public int nbSettled;
+
+    public ContractionHierarchy(DirectedValuedGraph graph){
+        this.graph = graph;
+    }
+
+    // ------------------------------------------------
+    // 					Preprocessing
+    // ------------------------------------------------
+
+    /**
+     * Contracts every node and builds the upward and downward graphs.
+     */
+    public void execPreprocessing(){
+        int n = this.graph.getNbNodes();
+        this.initContraction(n);
+        this.rank = new int[n];
+        this.nbShortcuts = 0;
+
+        // lazy updates: a node popped with a stale priority goes back into the heap if it is no longer the smallest
+        IndexedBinaryHeap order = new IndexedBinaryHeap(n);
+        for (int x = 0; x < n; x++){
+            order.insert(x, this.edgeDifference(x));
+        }
+        int next = 0;
+        while (!order.isEmpty()){
+            int x = order.removeMin();
+            int priority = this.edgeDifference(x);
+            if (!order.isEmpty() && priority > order.getKey(order.peek())){
+                order.insert(x, priority);
+                continue;
+            }
+            this.nbShortcuts += this.contract(x, true);
+            this.contracted[x] = true;
+            this.rank[x] = next++;
+            for (int i = 0; i < this.outDegrees[x]; i++){
+                this.deletedNeighbours[this.outNodes[x][i]]++;
+            }
+            for (int i = 0; i < this.inDegrees[x]; i++){
+                this.deletedNeighbours[this.inNodes[x][i]]++;
+            }
+        }
+
+        this.buildSearchGraphs(n);
+        // the contraction graph is not needed by the queries
+        this.outNodes = this.outCosts = this.inNodes = this.inCosts = null;
+        this.outDegrees = this.inDegrees = this.deletedNeighbours = null;
+        this.contracted = null;
+    }
+
+    private void initContraction(int n){
+        this.outNodes = new int[n][];
+        this.outCosts = new int[n][];
+        this.inNodes = new int[n][];
+        this.inCosts = new int[n][];
+        this.outDegrees = new int[n];
+        this.inDegrees = new int[n];
+        for (DirectedNode x : this.graph.getNodes()){
+            int label = x.getLabel();
+            NeighbourMap<DirectedNode> succs = x.getSuccs();
+            this.outNodes[label] = new int[Math.max(succs.size(), 1)];
+            this.outCosts[label] = new int[Math.max(succs.size(), 1)];
+            NeighbourMap<DirectedNode> preds = x.getPreds();
+            this.inNodes[label] = new int[Math.max(preds.size(), 1)];
+            this.inCosts[label] = new int[Math.max(preds.size(), 1)];
+        }
+        for (DirectedNode x : this.graph.getNodes()){
+            NeighbourMap<DirectedNode> succs = x.getSuccs();
+            for (int i = 0; i < succs.size(); i++){
+                if (succs.labelAt(i) != x.getLabel()){ // a loop is never on a shortest path
+                    this.addOrLower(x.getLabel(), succs.labelAt(i), succs.valueAt(i));
+                }
+            }
+        }
+        this.contracted = new boolean[n];
+        this.deletedNeighbours = new int[n];
+        this.dist = new int[n];
+        this.distBackward = new int[n];
+        Arrays.fill(this.dist, Integer.MAX_VALUE);
+        Arrays.fill(this.distBackward, Integer.MAX_VALUE);
+        this.touched = new int[n];
+        this.nbTouched = 0;
+        this.heap = new IndexedBinaryHeap(n);
+        this.heapBackward = new IndexedBinaryHeap(n);
+    }
+
+    /**
+     * Adds the arc (u,v) to the contraction graph, or lowers its cost if it is already there
+     * @return true if the arc was added or lowered
+     */
+    private boolean addOrLower(int u, int v, int cost){
+        for (int i = 0; i < this.outDegrees[u]; i++){
+            if (this.outNodes[u][i] == v){
+                if (cost >= this.outCosts[u][i]){
+                    return false;
+                }
+                this.outCosts[u][i] = cost;
+                for (int j = 0; j < this.inDegrees[v]; j++){
+                    if (this.inNodes[v][j] == u){
+                        this.inCosts[v][j] = cost;
+                    }
+                }
+                return true;
+            }
+        }
+        if (this.outDegrees[u] == this.outNodes[u].length){
+            this.outNodes[u] = Arrays.copyOf(this.outNodes[u], 2 * this.outDegrees[u]);
+            this.outCosts[u] = Arrays.copyOf(this.outCosts[u], 2 * this.outDegrees[u]);
+        }
+        this.outNodes[u][this.outDegrees[u]] = v;
+        this.outCosts[u][this.outDegrees[u]++] = cost;
+        if (this.inDegrees[v] == this.inNodes[v].length){
+            this.inNodes[v] = Arrays.copyOf(this.inNodes[v], 2 * this.inDegrees[v]);
+            this.inCosts[v] = Arrays.copyOf(this.inCosts[v], 2 * this.inDegrees[v]);
+        }
+        this.inNodes[v][this.inDegrees[v]] = u;
+        this.inCosts[v][this.inDegrees[v]++] = cost;
+        return true;
+    }
+
+    /**
+     * @return the number of shortcuts contracting x would add, minus the number of arcs it would remove,
+     *         plus the number of its neighbours already contracted (to spread the contractions over the graph)
+     */
+    private int edgeDifference(int x){
+        int removed = 0;
+        for (int i = 0; i < this.outDegrees[x]; i++){
+            if (!this.contracted[this.outNodes[x][i]]){
+                removed++;
+            }
+        }
+        for (int i = 0; i < this.inDegrees[x]; i++){
+            if (!this.contracted[this.inNodes[x][i]]){
+                removed++;
+            }
+        }
+        return this.contract(x, false) - removed + this.deletedNeighbours[x];
+    }
+
+    /**
+     * Finds the shortcuts needed to contract x, among its neighbours not contracted yet.
+     * @param apply if true the shortcuts are added to the contraction graph, otherwise they are only counted
+     * @return the number of shortcuts
+     */
+    private int contract(int x, boolean apply){
+        int count = 0;
+        for (int i = 0; i < this.inDegrees[x]; i++){
+            int u = this.inNodes[x][i];
+            if (this.contracted[u]){
+                continue;
+            }
+            int costUX = this.inCosts[x][i];
+            // the witness search from u only needs to go as far as the longest path u -> x -> v
+            int maxCostXV = -1;
+            for (int j = 0; j < this.outDegrees[x]; j++){
+                int v = this.outNodes[x][j];
+                if (!this.contracted[v] && v != u){
+                    maxCostXV = Math.max(maxCostXV, this.outCosts[x][j]);
+                }
+            }
+            if (maxCostXV == -1){
+                continue;
+            }
+            this.witnessSearch(u, x, costUX + maxCostXV);
+            for (int j = 0; j < this.outDegrees[x]; j++){
+                int v = this.outNodes[x][j];
+                int costUXV = costUX + this.outCosts[x][j];
+                // an arc (u,v) already there and not longer than u -> x -> v is not counted when applying
+                if (!this.contracted[v] && v != u && this.dist[v] > costUXV && (!apply || this.addOrLower(u, v, costUXV))){
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Dijkstra from u in the contraction graph without x and the contracted nodes, up to distance limit
+     * or WITNESS_SETTLED_LIMIT settled nodes. The distances are left in dist (Integer.MAX_VALUE if not reached).
+     */
+    private void witnessSearch(int u, int x, int limit){
+        this.resetSearch();
+        this.touch(u);
+        this.dist[u] = 0;
+        this.heap.insert(u, 0);
+        int settled = 0;
+        while (!this.heap.isEmpty() && settled < WITNESS_SETTLED_LIMIT){
+            int y = this.heap.removeMin();
+            int dy = this.dist[y];
+            if (dy > limit){
+                break;
+            }
+            settled++;
+            for (int i = 0; i < this.outDegrees[y]; i++){
+                int z = this.outNodes[y][i];
+                int dz = dy + this.outCosts[y][i];
+                if (z != x && !this.contracted[z] && dz < this.dist[z]){
+                    if (this.dist[z] == Integer.MAX_VALUE){
+                        this.touch(z);
+                    }
+                    this.dist[z] = dz;
+                    this.heap.insertOrDecrease(z, dz);
+                }
+            }
+        }
+    }
+
+    /**
+     * Splits the arcs of the contraction graph (original arcs and shortcuts) into the upward and downward CSR graphs
+     */
+    private void buildSearchGraphs(int n){
+        int[] upOffsets = new int[n + 1];
+        int[] downOffsets = new int[n + 1];
+        for (int u = 0; u < n; u++){
+            for (int i = 0; i < this.outDegrees[u]; i++){
+                int v = this.outNodes[u][i];
+                if (this.rank[u] < this.rank[v]){
+                    upOffsets[u + 1]++;
+                } else {
+                    downOffsets[v + 1]++;
+                }
+            }
+        }
+        for (int u = 0; u < n; u++){
+            upOffsets[u + 1] += upOffsets[u];
+            downOffsets[u + 1] += downOffsets[u];
+        }
+        int[] upTargets = new int[upOffsets[n]];
+        int[] upWeights = new int[upOffsets[n]];
+        int[] downTargets = new int[downOffsets[n]];
+        int[] downWeights = new int[downOffsets[n]];
+        int[] upNext = Arrays.copyOf(upOffsets, n);
+        int[] downNext = Arrays.copyOf(downOffsets, n);
+        for (int u = 0; u < n; u++){
+            for (int i = 0; i < this.outDegrees[u]; i++){
+                int v = this.outNodes[u][i];
+                if (this.rank[u] < this.rank[v]){
+                    upTargets[upNext[u]] = v;
+                    upWeights[upNext[u]++] = this.outCosts[u][i];
+                } else {
+                    downTargets[downNext[v]] = u;
+                    downWeights[downNext[v]++] = this.outCosts[u][i];
+                }
+            }
+        }
+        this.upward = new CSRDirectedGraph(upOffsets, upTargets, upWeights);
+        this.downward = new CSRDirectedGraph(downOffsets, downTargets, downWeights);
+    }
+
+    // ------------------------------------------------
+    // 					Queries
+    // ------------------------------------------------
+
+    /**
+     * @return the distance from src to dst, Integer.MAX_VALUE if dst is unreachable
+     */
+    public int execQuery(DirectedNode src, DirectedNode dst){
+        // Complexity: O((n'+m')*log_2(n')) where n' and m' count the nodes above src and dst in the hierarchy
+        if (this.upward == null){
+            throw new IllegalStateException("The hierarchy is not built, please run execPreprocessing first");
+        }
+        this.resetSearch();
+        int s = src.getLabel();
+        int t = dst.getLabel();
+        this.nbSettled = 0;
+
+        this.touch(s);
+        this.dist[s] = 0;
+        this.heap.insert(s, 0);
+        if (t != s){
+            this.touch(t);
+        }
+        this.distBackward[t] = 0;
+        this.heapBackward.insert(t, 0);
+
+        long mu = Long.MAX_VALUE;
+        while (true){
+            // a side stops once its smallest key cannot improve mu, the query stops when both have
+            boolean forward = !this.heap.isEmpty() && this.heap.getKey(this.heap.peek()) < mu;
+            boolean backward = !this.heapBackward.isEmpty() && this.heapBackward.getKey(this.heapBackward.peek()) < mu;
+            if (forward && backward){
+                forward = this.heap.getKey(this.heap.peek()) <= this.heapBackward.getKey(this.heapBackward.peek());
+            } else if (!forward && !backward){
+                break;
+            }
+            this.nbSettled++;
+            if (forward){
+                mu = this.settle(this.heap, this.upward, this.dist, this.distBackward, mu);
+            } else {
+                mu = this.settle(this.heapBackward, this.downward, this.distBackward, this.dist, mu);
+            }
+        }
+        this.distance = mu == Long.MAX_VALUE ? Integer.MAX_VALUE : (int) mu;
+        return this.distance;
+    }
+
+    /**
+     * Settles the smallest node x of heap and relaxes its arcs in g
+     * @return mu, lowered if x was reached by the other side with a shorter total
+     */
+    private long settle(IndexedBinaryHeap heap, CSRDirectedGraph g, int[] dist, int[] distOther, long mu){
+        int x = heap.removeMin();
+        int dx = dist[x];
+        if (distOther[x] != Integer.MAX_VALUE && (long) dx + distOther[x] < mu){
+            mu = (long) dx + distOther[x];
+        }
+        int[] offsets = g.getOffsets();
+        int[] targets = g.getTargets();
+        int[] weights = g.getWeights();
+        for (int a = offsets[x]; a < offsets[x + 1]; a++){
+            int y = targets[a];
+            int dy = dx + weights[a];
+            if (dy < dist[y]){
+                if (this.dist[y] == Integer.MAX_VALUE && this.distBackward[y] == Integer.MAX_VALUE){
+                    this.touch(y);
+                }
+                dist[y] = dy;
+                heap.insertOrDecrease(y, dy);
+            }
+        }
+        return mu;
+    }
+
+    private void touch(int x){
+        this.touched[this.nbTouched++] = x;
+    }
+
+    /**
+     * Forgets the last search.  O(number of labels it touched)
+     */
+    private void resetSearch(){
+        for (int i = 0; i < this.nbTouched; i++){
+            this.dist[this.touched[i]] = Integer.MAX_VALUE;
+            this.distBackward[this.touched[i]] = Integer.MAX_VALUE;
+        }
+        this.nbTouched = 0;
+        this.heap.clear();
+        this.heapBackward.clear();
+    }
+
+    public int[] getRank() {
+        return this.rank;
+    }
+
+    public CSRDirectedGraph getUpward() {
+        return this.upward;
+    }
+
+    public CSRDirectedGraph getDownward() {
+        return this.downward;
+    }
+
+    public int getNbShortcuts() {
+        return this.nbShortcuts;
+    }
+
+    public int getDistance() {
+        return this.distance;
+    }
+
+    public int getNbSettled() {
+        return this.nbSettled;
+    }
+
+    public static void main(String[] args) {
+        int[][] matrixValued = GraphTools.generateValuedGraphData(20, false, false, true, false, 100001);
+        DirectedValuedGraph graph = new DirectedValuedGraph(matrixValued);
+
+        // preprocessing, once per graph
+        ContractionHierarchy ch = new ContractionHierarchy(graph);
+        ch.execPreprocessing();
+        System.out.println("rank = " + Arrays.toString(ch.getRank()));
+        System.out.println("shortcuts = " + ch.getNbShortcuts() + "   ;    upward arcs = " + ch.getUpward().getNbArcs()
+                + "   ;    downward arcs = " + ch.getDownward().getNbArcs());
+
+        // queries, checked against Dijkstra's algorithm
+        DijkstraAlgorithm dijkstra = new DijkstraAlgorithm(graph, new DirectedNode(0));
+        dijkstra.execDijkstraQueue();
+        for (int t = 0; t < 20; t += 3){
+            int d = ch.execQuery(new DirectedNode(0), new DirectedNode(t));
+            System.out.println("0 -> " + t + " : dist = " + d + " (Dijkstra: " + dijkstra.getDistArray()[t]
+                    + ")   ;    settled nodes = " + ch.getNbSettled());
+        }
+    }
+}
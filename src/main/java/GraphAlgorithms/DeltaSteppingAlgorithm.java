@@ -0,0 +1,344 @@
+package GraphAlgorithms;
+
+import AdjacencyList.DirectedValuedGraph;
+import CompressedSparseRow.CSRDirectedGraph;
+import Nodes.DirectedNode;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parallel single source shortest paths on non-negative costs by delta-stepping (Meyer and Sanders).
+ * The tentative distances are grouped in buckets of width delta. The smallest non-empty bucket is emptied
+ * by relaxing the light arcs (cost <= delta) of its nodes in parallel, again and again since a light arc
+ * may put a node back into the same bucket; then the heavy arcs of all the nodes it held are relaxed once.
+ * The relaxations are atomic (compare-and-set on the int[] distances), each task collects the nodes it improved
+ * in its own buffer and the buffers are put into the buckets between two parallel phases.
+ */
+public class DeltaSteppingAlgorithm {
+
+    // atomic access to the cells of an int[]
+    private static final VarHandle INT_ARRAY = MethodHandles.arrayElementVarHandle(int[].class);
+
+    // below this many nodes a phase is run by the calling thread
+    private static final int SEQUENTIAL_THRESHOLD = 256;
+
+    // given directed valued graph
+    public DirectedValuedGraph graph;
+
+    // source node
+    public DirectedNode src;
+
+    // width of a bucket
+    public int delta;
+
+    // results, indexed by label (pred is -1 for an unreachable node)
+    public int[] dist;
+
+    public int[] pred;
+
+    public DeltaSteppingAlgorithm(DirectedValuedGraph graph, DirectedNode src, int delta){
+        if (delta <= 0){
+            throw new IllegalArgumentException("delta must be positive, got " + delta);
+        }
+        this.graph = graph;
+        this.src = graph.getNodes().get(src.getLabel());
+        this.delta = delta;
+    }
+
+    /**
+     * Uses defaultDelta for the width of the buckets
+     */
+    public DeltaSteppingAlgorithm(DirectedValuedGraph graph, DirectedNode src){
+        this(graph, src, defaultDelta(new CSRDirectedGraph(graph)));
+    }
+
+    /**
+     * @return the largest cost divided by the average out-degree (at least 1), the usual choice for random graphs
+     */
+    public static int defaultDelta(CSRDirectedGraph graph){
+        int maxCost = 0;
+        for (int a = 0; a < graph.getNbArcs(); a++){
+            // getWeight is 0 for the arcs of a non valued graph
+            maxCost = Math.max(maxCost, graph.getWeight(a));
+        }
+        int averageDegree = Math.max(1, graph.getNbArcs() / Math.max(1, graph.getNbNodes()));
+        return Math.max(1, maxCost / averageDegree);
+    }
+
+    /**
+     * Runs delta-stepping on the common ForkJoin pool and fills dist and pred
+     */
+    public void execDeltaStepping(){
+        this.execDeltaStepping(ForkJoinPool.commonPool());
+    }
+
+    public void execDeltaStepping(ForkJoinPool pool){
+        CSRDirectedGraph csr = new CSRDirectedGraph(this.graph);   // O(n+m)
+        this.dist = new int[csr.getNbNodes()];
+        this.pred = new int[csr.getNbNodes()];
+        execDeltaStepping(csr, this.src.getLabel(), this.delta, this.dist, pool);
+        computePred(csr, this.src.getLabel(), this.dist, this.pred);
+    }
+
+    /**
+     * Delta-stepping from src on graph, in parallel on pool.
+     * @param dist filled with the distances from src, Integer.MAX_VALUE if unreachable
+     * @throws IllegalArgumentException if a cost is negative
+     */
+    public static void execDeltaStepping(CSRDirectedGraph graph, int src, int delta, int[] dist, ForkJoinPool pool){
+        // Complexity: O(n+m) work per bucket round, plus the light arcs re-relaxed inside a bucket
+        int n = graph.getNbNodes();
+        int[] offsets = graph.getOffsets();
+
+        // arcs of each node reordered light first, lightEnds[u] is the end of the light arcs of u    O(m)
+        int[] targets = new int[graph.getNbArcs()];
+        int[] weights = new int[graph.getNbArcs()];
+        int[] lightEnds = new int[n];
+        int maxCost = 0;
+        for (int u = 0; u < n; u++){
+            int light = offsets[u];
+            int heavy = offsets[u + 1];
+            for (int a = offsets[u]; a < offsets[u + 1]; a++){
+                int w = graph.getWeight(a);
+                if (w < 0){
+                    throw new IllegalArgumentException("Delta-stepping needs non-negative costs, found " + w);
+                }
+                maxCost = Math.max(maxCost, w);
+                int k = w <= delta ? light++ : --heavy;
+                targets[k] = graph.getTargets()[a];
+                weights[k] = w;
+            }
+            lightEnds[u] = light;
+        }
+
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        dist[src] = 0;
+
+        // cyclic array of buckets: a relaxation never goes more than maxCost/delta buckets ahead of the current one
+        IntList[] buckets = new IntList[maxCost / delta + 2];
+        for (int b = 0; b < buckets.length; b++){
+            buckets[b] = new IntList();
+        }
+        buckets[0].add(src);
+        int nbQueued = 1;
+        // stamps to put a node only once into a frontier (inFrontier, one stamp per phase)
+        // and into the list of the nodes settled by a bucket (inSettled, one round per bucket)
+        int[] inFrontier = new int[n];
+        int[] inSettled = new int[n];
+        int stamp = 0;
+        int round = 0;
+        IntList frontier = new IntList();
+        IntList settled = new IntList();
+
+        for (int current = 0; nbQueued > 0; current++){
+            IntList bucket = buckets[current % buckets.length];
+            if (bucket.size == 0){
+                continue;
+            }
+            nbQueued -= bucket.size;
+            stamp++;
+            round++;
+            frontier.clear();
+            settled.clear();
+            // keep the entries still in this bucket (a node may have moved to a smaller one since)
+            for (int i = 0; i < bucket.size; i++){
+                int v = bucket.values[i];
+                if (dist[v] / delta == current && inFrontier[v] != stamp){
+                    inFrontier[v] = stamp;
+                    frontier.add(v);
+                }
+            }
+            bucket.clear();
+
+            // light phases, until no node comes back into the current bucket
+            while (frontier.size > 0){
+                for (int i = 0; i < frontier.size; i++){
+                    int v = frontier.values[i];
+                    if (inSettled[v] != round){
+                        inSettled[v] = round;
+                        settled.add(v);
+                    }
+                }
+                int[] improved = relaxAll(frontier, offsets, lightEnds, targets, weights, dist, true, pool);
+                stamp++;
+                frontier.clear();
+                for (int v : improved){
+                    if (inFrontier[v] == stamp){
+                        continue;
+                    }
+                    inFrontier[v] = stamp;
+                    int b = dist[v] / delta;
+                    if (b == current){
+                        frontier.add(v);
+                    } else {
+                        buckets[b % buckets.length].add(v);
+                        nbQueued++;
+                    }
+                }
+            }
+
+            // heavy phase: heavy arcs always lead to a later bucket
+            int[] improved = relaxAll(settled, offsets, lightEnds, targets, weights, dist, false, pool);
+            stamp++;
+            for (int v : improved){
+                if (inFrontier[v] != stamp){
+                    inFrontier[v] = stamp;
+                    buckets[(dist[v] / delta) % buckets.length].add(v);
+                    nbQueued++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Relaxes the light (or heavy) arcs of the nodes of list, in parallel
+     * @return the nodes whose distance was lowered, possibly several times
+     */
+    private static int[] relaxAll(IntList list, int[] offsets, int[] lightEnds, int[] targets, int[] weights,
+                                  int[] dist, boolean light, ForkJoinPool pool){
+        if (list.size < SEQUENTIAL_THRESHOLD){
+            RelaxTask task = new RelaxTask(list.values, 0, list.size, offsets, lightEnds, targets, weights, dist, light);
+            task.compute();
+            return task.improved.toArray();
+        }
+        int nbTasks = Math.min(4 * pool.getParallelism(), list.size / (SEQUENTIAL_THRESHOLD / 4));
+        List<RelaxTask> tasks = new ArrayList<>(nbTasks);
+        for (int t = 0; t < nbTasks; t++){
+            int from = (int) ((long) list.size * t / nbTasks);
+            int to = (int) ((long) list.size * (t + 1) / nbTasks);
+            tasks.add(new RelaxTask(list.values, from, to, offsets, lightEnds, targets, weights, dist, light));
+        }
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                ForkJoinTask.invokeAll(tasks);
+            }
+        });
+        IntList improved = new IntList();
+        for (RelaxTask task : tasks){
+            improved.addAll(task.improved);
+        }
+        return improved.toArray();
+    }
+
+    /**
+     * Relaxation of the arcs of nodes[from ... to-1], the improved nodes go into the task's own buffer
+     */
+    private static final class RelaxTask extends RecursiveAction {
+        private final int[] nodes;
+        private final int from, to;
+        private final int[] offsets, lightEnds, targets, weights, dist;
+        private final boolean light;
+        private final IntList improved = new IntList();
+
+        RelaxTask(int[] nodes, int from, int to, int[] offsets, int[] lightEnds, int[] targets, int[] weights,
+                  int[] dist, boolean light){
+            this.nodes = nodes;
+            this.from = from;
+            this.to = to;
+            this.offsets = offsets;
+            this.lightEnds = lightEnds;
+            this.targets = targets;
+            this.weights = weights;
+            this.dist = dist;
+            this.light = light;
+        }
+
+        @Override
+        protected void compute() {
+            for (int i = this.from; i < this.to; i++){
+                int u = this.nodes[i];
+                int du = (int) INT_ARRAY.getVolatile(this.dist, u);
+                int begin = this.light ? this.offsets[u] : this.lightEnds[u];
+                int end = this.light ? this.lightEnds[u] : this.offsets[u + 1];
+                for (int a = begin; a < end; a++){
+                    int v = this.targets[a];
+                    if (atomicMin(this.dist, v, du + this.weights[a])){
+                        this.improved.add(v);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Lowers dist[v] to d if d is smaller, atomically
+     * @return true if dist[v] was lowered
+     */
+    private static boolean atomicMin(int[] dist, int v, int d){
+        int old = (int) INT_ARRAY.getVolatile(dist, v);
+        while (d < old){
+            if (INT_ARRAY.compareAndSet(dist, v, old, d)){
+                return true;
+            }
+            old = (int) INT_ARRAY.getVolatile(dist, v);
+        }
+        return false;
+    }
+
+    /**
+     * Fills pred from the final distances with a BFS from src over the tight arcs (u,v), those with dist[u] + cost = dist[v]:
+     * a node is linked to the first already linked node that reaches it, so pred is a shortest path tree even when
+     * some costs are 0 (arcs of cost 0, or a non valued graph) and tight arcs make cycles.
+     */
+    public static void computePred(CSRDirectedGraph graph, int src, int[] dist, int[] pred){
+        // Complexity: O(n+m)
+        Arrays.fill(pred, -1);
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int[] queue = new int[graph.getNbNodes()];
+        int head = 0;
+        int tail = 0;
+        pred[src] = src;
+        queue[tail++] = src;
+        while (head < tail){
+            int u = queue[head++];
+            for (int a = offsets[u]; a < offsets[u + 1]; a++){
+                int v = targets[a];
+                if (pred[v] == -1 && dist[u] + graph.getWeight(a) == dist[v]){
+                    pred[v] = u;
+                    queue[tail++] = v;
+                }
+            }
+        }
+    }
+
+    public int[] getDist() {
+        return this.dist;
+    }
+
+    public int[] getPred() {
+        return this.pred;
+    }
+
+    public static void main(String[] args) {
+        int[][] matrixValued = GraphTools.generateValuedGraphData(20, false, false, true, false, 100001);
+        DirectedValuedGraph graph = new DirectedValuedGraph(matrixValued);
+
+        DeltaSteppingAlgorithm deltaStepping = new DeltaSteppingAlgorithm(graph, new DirectedNode(0));
+        deltaStepping.execDeltaStepping();
+        System.out.println("delta = " + deltaStepping.delta);
+        System.out.println("dist = " + Arrays.toString(deltaStepping.getDist()));
+        System.out.println("pred = " + Arrays.toString(deltaStepping.getPred()));
+
+        // same distances as Dijkstra's algorithm
+        DijkstraAlgorithm dijkstra = new DijkstraAlgorithm(graph, new DirectedNode(0));
+        dijkstra.execDijkstraQueue();
+        System.out.println("same as Dijkstra: " + Arrays.equals(deltaStepping.getDist(), dijkstra.getDistArray()));
+
+        // arcs of cost 0: the tight arcs (0,1) and (1,0) make a cycle, the tree still hangs from the source 2
+        CSRDirectedGraph zero = new CSRDirectedGraph(new int[]{0, 1, 2, 3}, new int[]{1, 0, 0}, new int[]{0, 0, 5});
+        int[] zeroDist = new int[3];
+        int[] zeroPred = new int[3];
+        execDeltaStepping(zero, 2, defaultDelta(zero), zeroDist, ForkJoinPool.commonPool());
+        computePred(zero, 2, zeroDist, zeroPred);
+        System.out.println("\nwith costs 0: dist = " + Arrays.toString(zeroDist) + ", pred = " + Arrays.toString(zeroPred));
+    }
+}
@@ -1,9 +1,11 @@
 package GraphAlgorithms;
 
 import AdjacencyList.DirectedValuedGraph;
+import CompressedSparseRow.CSRDirectedGraph;
 import Nodes.DirectedNode;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -23,6 +25,14 @@ public class DijkstraAlgorithm {
 
     public Map<DirectedNode,Boolean> areVisited;
 
+    // results of the heap mode, indexed by label (pred is -1 for an unreachable node)
+    public int[] distArray;
+
+    public int[] predArray;
+
+    // above this cost, Dial's buckets are mostly empty and walking through them costs more than a radix heap
+    public static final int DIAL_MAX_COST = 256;
+
     public DijkstraAlgorithm(DirectedValuedGraph graph, DirectedNode src){
         this.graph = graph;
         this.src = graph.getNodes().get(src.getLabel());
@@ -78,6 +88,102 @@ public class DijkstraAlgorithm {
 
     }
 
+    /**
+     * Heap mode: same results as execDijkstraAlgorithm, written into distArray and predArray.
+     * The graph is read through a CSR snapshot and the next node is picked with an indexed heap.
+     */
+    public void execDijkstraHeap(){
+        // Complexity: O((n+m)*log_2(n))
+        CSRDirectedGraph csr = new CSRDirectedGraph(this.graph);   // O(n+m)
+        this.distArray = new int[csr.getNbNodes()];
+        this.predArray = new int[csr.getNbNodes()];
+        execDijkstraQueue(csr, this.src.getLabel(), this.distArray, this.predArray, new IndexedBinaryHeap(csr.getNbNodes()));
+    }
+
+    /**
+     * Queue mode: same as execDijkstraHeap, with the priority queue picked by chooseQueue
+     * from the largest cost of the graph.
+     */
+    public void execDijkstraQueue(){
+        CSRDirectedGraph csr = new CSRDirectedGraph(this.graph);   // O(n+m)
+        this.distArray = new int[csr.getNbNodes()];
+        this.predArray = new int[csr.getNbNodes()];
+        execDijkstraQueue(csr, this.src.getLabel(), this.distArray, this.predArray, chooseQueue(csr));
+    }
+
+    /**
+     * Picks the priority queue for Dijkstra's algorithm on graph:
+     * a BucketQueue when the costs are small (at most DIAL_MAX_COST), a RadixHeap for larger costs,
+     * and an IndexedBinaryHeap if there is a negative cost since the bucket queues need monotone keys.
+     * @return an empty queue with capacity graph.getNbNodes()
+     */
+    public static IPriorityQueue chooseQueue(CSRDirectedGraph graph){
+        // Complexity: O(m)
+        int maxCost = 0;
+        if (graph.getWeights() != null){
+            for (int w : graph.getWeights()){
+                if (w < 0){
+                    return new IndexedBinaryHeap(graph.getNbNodes());
+                }
+                maxCost = Math.max(maxCost, w);
+            }
+        }
+        if (maxCost <= DIAL_MAX_COST){
+            return new BucketQueue(graph.getNbNodes(), maxCost);
+        }
+        return new RadixHeap(graph.getNbNodes());
+    }
+
+    /**
+     * Dijkstra's algorithm on non-negative costs, the next node being picked by queue (decrease-key).
+     * All buffers are given by the caller so that they can be reused from one source to the next.
+     * @param dist filled with the distances from src, Integer.MAX_VALUE if unreachable
+     * @param pred filled with the predecessors on the shortest paths, src for src and -1 if unreachable
+     * @param queue an empty queue (or one left by a previous run) with capacity graph.getNbNodes(),
+     *              a BucketQueue must have been built for a maximum cost >= every cost of graph
+     */
+    public static void execDijkstraQueue(CSRDirectedGraph graph, int src, int[] dist, int[] pred, IPriorityQueue queue){
+        // Complexity: O((n+m)*log_2(n)) with IndexedBinaryHeap, O(m + n*maxCost) with BucketQueue,
+        //             O(m + n*log_2(maxDist)) with RadixHeap
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int[] weights = graph.getWeights();
+
+        // init Dijkstra's tables    O(n)
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        Arrays.fill(pred, -1);
+        queue.clear();
+
+        // init zero dist from source to source     O(1)
+        dist[src] = 0;
+        pred[src] = src;
+        queue.insert(src, 0);
+
+        // each node leaves the queue once, with its final distance
+        while (!queue.isEmpty()){
+            int x = queue.removeMin();
+            int dx = dist[x];
+            // update successors of `x`     O(d⁺(x)) queue operations
+            for (int a = offsets[x]; a < offsets[x+1]; a++){
+                int y = targets[a];
+                int dy = dx + (weights == null ? 0 : weights[a]);
+                if (dy < dist[y]){
+                    dist[y] = dy;
+                    pred[y] = x;
+                    queue.insertOrDecrease(y, dy);
+                }
+            }
+        }
+    }
+
+    public int[] getDistArray() {
+        return this.distArray;
+    }
+
+    public int[] getPredArray() {
+        return this.predArray;
+    }
+
     public Map<DirectedNode,DirectedNode> getPred(){
         return this.pred;
     }
@@ -128,6 +234,18 @@ public class DijkstraAlgorithm {
         instanceDijkstra.execDijkstraAlgorithm();
         instanceDijkstra.printDijkstra();
 
+        // same run with the indexed heap
+        instanceDijkstra.execDijkstraHeap();
+        System.out.println("\nWith the indexed heap:");
+        System.out.println("dist = " + Arrays.toString(instanceDijkstra.getDistArray()));
+        System.out.println("pred = " + Arrays.toString(instanceDijkstra.getPredArray()));
+
+        // same run with the queue picked from the costs (all <= 7, so Dial's buckets)
+        instanceDijkstra.execDijkstraQueue();
+        System.out.println("\nWith " + chooseQueue(new CSRDirectedGraph(graph)).getClass().getSimpleName() + ":");
+        System.out.println("dist = " + Arrays.toString(instanceDijkstra.getDistArray()));
+        System.out.println("pred = " + Arrays.toString(instanceDijkstra.getPredArray()));
+
     }
 
 
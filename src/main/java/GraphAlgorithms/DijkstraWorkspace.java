@@ -0,0 +1,45 @@
+package GraphAlgorithms;
+
+import CompressedSparseRow.CSRDirectedGraph;
+
+/**
+ * The buffers of one Dijkstra run (distances, predecessors and priority queue) on a given graph,
+ * kept by a worker so that it runs Dijkstra from source after source without allocating.
+ * A workspace must not be shared between threads.
+ */
+public class DijkstraWorkspace {
+
+    public final CSRDirectedGraph graph;
+
+    // results of the last run, indexed by label (see DijkstraAlgorithm.execDijkstraQueue)
+    public final int[] dist;
+
+    public final int[] pred;
+
+    private final IPriorityQueue queue;
+
+    /**
+     * @param graph a graph with non-negative costs, the queue is picked by DijkstraAlgorithm.chooseQueue
+     */
+    public DijkstraWorkspace(CSRDirectedGraph graph) {
+        this.graph = graph;
+        this.dist = new int[graph.getNbNodes()];
+        this.pred = new int[graph.getNbNodes()];
+        this.queue = DijkstraAlgorithm.chooseQueue(graph);
+    }
+
+    /**
+     * Runs Dijkstra's algorithm from src, the results are in dist and pred until the next run
+     */
+    public void run(int src) {
+        DijkstraAlgorithm.execDijkstraQueue(this.graph, src, this.dist, this.pred, this.queue);
+    }
+
+    public int[] getDist() {
+        return this.dist;
+    }
+
+    public int[] getPred() {
+        return this.pred;
+    }
+}
@@ -0,0 +1,194 @@
+package GraphAlgorithms;
+
+import Abstraction.IDirectedGraph;
+import CompressedSparseRow.CSRDirectedGraph;
+
+import java.util.Arrays;
+
+/**
+ * Breadth first search switching between two kinds of steps (Beamer's direction-optimizing BFS):
+ *  * top-down: the nodes of the frontier look at their successors, the cheap way while the frontier is small,
+ *  * bottom-up: the nodes not reached yet look at their predecessors (in the CSR transpose) and stop at the first one
+ *    in the frontier, which skips most of the arcs once the frontier holds a large part of the graph.
+ * The frontier is a list of nodes in top-down steps and a bitset in bottom-up steps.
+ * The search goes bottom-up when the arcs leaving the frontier exceed those leaving the unreached nodes divided by ALPHA,
+ * and back top-down when the frontier gets smaller than n/BETA nodes.
+ */
+public class DirectionOptimizingBFS {
+
+    // switch to bottom-up when mf > mu / ALPHA (mf: arcs from the frontier, mu: arcs from the unreached nodes)
+    public static final int ALPHA = 15;
+
+    // switch back to top-down when the frontier has less than n / BETA nodes
+    public static final int BETA = 18;
+
+    public CSRDirectedGraph graph;
+
+    public CSRDirectedGraph inverse;
+
+    // level[v] is the number of arcs from the source to v, -1 if v is unreachable
+    public int[] level;
+
+    // parent[v] is the predecessor of v in the BFS tree, the source for the source, -1 if v is unreachable
+    public int[] parent;
+
+    // number of steps of each kind of the last run
+    public int nbTopDownSteps;
+
+    public int nbBottomUpSteps;
+
+    public DirectionOptimizingBFS(IDirectedGraph graph){
+        this.graph = graph instanceof CSRDirectedGraph ? (CSRDirectedGraph) graph : new CSRDirectedGraph(graph, false);   // O(n+m)
+        this.inverse = this.graph.computeInverse();     // O(n+m)
+    }
+
+    /**
+     * @return level, the number of arcs from src to each node
+     */
+    public int[] execBFS(int src){
+        // Complexity: O(n+m) in the worst case, far fewer arcs looked at on low diameter graphs
+        int n = this.graph.getNbNodes();
+        int[] offsets = this.graph.getOffsets();
+        this.level = new int[n];
+        this.parent = new int[n];
+        Arrays.fill(this.level, -1);
+        Arrays.fill(this.parent, -1);
+        this.nbTopDownSteps = 0;
+        this.nbBottomUpSteps = 0;
+
+        this.level[src] = 0;
+        this.parent[src] = src;
+        int[] queue = new int[n];       // frontier as a list: queue[0 ... size-1]
+        int[] nextQueue = new int[n];
+        int size = 1;
+        queue[0] = src;
+        long[] bits = new long[(n + 63) >> 6];      // frontier as a bitset
+        long[] nextBits = new long[bits.length];
+        boolean bottomUp = false;
+
+        long mf = offsets[src + 1] - offsets[src];             // arcs leaving the frontier
+        long mu = this.graph.getNbArcs() - mf;                 // arcs leaving the unreached nodes
+        int depth = 0;
+        while (size > 0){
+            depth++;
+            if (!bottomUp && mf > mu / ALPHA){
+                // list -> bitset
+                bottomUp = true;
+                Arrays.fill(bits, 0L);
+                for (int k = 0; k < size; k++){
+                    bits[queue[k] >> 6] |= 1L << queue[k];
+                }
+            } else if (bottomUp && size < n / BETA){
+                // bitset -> list
+                bottomUp = false;
+                size = 0;
+                for (int w = 0; w < bits.length; w++){
+                    for (long word = bits[w]; word != 0; word &= word - 1){
+                        queue[size++] = (w << 6) + Long.numberOfTrailingZeros(word);
+                    }
+                }
+            }
+
+            int nextSize = 0;
+            long nextMf = 0;
+            if (bottomUp){
+                this.nbBottomUpSteps++;
+                nextSize = this.bottomUpStep(bits, nextBits, depth);
+                for (int w = 0; w < nextBits.length; w++){
+                    for (long word = nextBits[w]; word != 0; word &= word - 1){
+                        int v = (w << 6) + Long.numberOfTrailingZeros(word);
+                        nextMf += offsets[v + 1] - offsets[v];
+                    }
+                }
+                long[] tmp = bits;
+                bits = nextBits;
+                nextBits = tmp;
+            } else {
+                this.nbTopDownSteps++;
+                nextSize = this.topDownStep(queue, size, nextQueue, depth);
+                for (int k = 0; k < nextSize; k++){
+                    nextMf += offsets[nextQueue[k] + 1] - offsets[nextQueue[k]];
+                }
+                int[] tmp = queue;
+                queue = nextQueue;
+                nextQueue = tmp;
+            }
+            size = nextSize;
+            mf = nextMf;
+            mu -= nextMf;
+        }
+        return this.level;
+    }
+
+    /**
+     * The successors of the frontier not reached yet make the next frontier
+     * @return its size
+     */
+    private int topDownStep(int[] queue, int size, int[] nextQueue, int depth){
+        int[] offsets = this.graph.getOffsets();
+        int[] targets = this.graph.getTargets();
+        int nextSize = 0;
+        for (int k = 0; k < size; k++){
+            int v = queue[k];
+            for (int a = offsets[v]; a < offsets[v + 1]; a++){
+                int w = targets[a];
+                if (this.level[w] == -1){
+                    this.level[w] = depth;
+                    this.parent[w] = v;
+                    nextQueue[nextSize++] = w;
+                }
+            }
+        }
+        return nextSize;
+    }
+
+    /**
+     * Each node not reached yet looks for a predecessor in the frontier, and stops at the first one
+     * @return the size of the next frontier
+     */
+    private int bottomUpStep(long[] bits, long[] nextBits, int depth){
+        int[] invOffsets = this.inverse.getOffsets();
+        int[] invTargets = this.inverse.getTargets();
+        Arrays.fill(nextBits, 0L);
+        int nextSize = 0;
+        for (int v = 0; v < this.level.length; v++){
+            if (this.level[v] != -1){
+                continue;
+            }
+            for (int a = invOffsets[v]; a < invOffsets[v + 1]; a++){
+                int u = invTargets[a];
+                if ((bits[u >> 6] & (1L << u)) != 0){
+                    this.level[v] = depth;
+                    this.parent[v] = u;
+                    nextBits[v >> 6] |= 1L << v;
+                    nextSize++;
+                    break;
+                }
+            }
+        }
+        return nextSize;
+    }
+
+    public int[] getLevel() {
+        return this.level;
+    }
+
+    public int[] getParent() {
+        return this.parent;
+    }
+
+    public static void main(String[] args) {
+        // graph G from the GraphExplorer example
+        DirectionOptimizingBFS bfs = new DirectionOptimizingBFS(new GraphExplorer().getGraph());
+        bfs.execBFS(0);
+        System.out.println("level = " + Arrays.toString(bfs.getLevel()));
+        System.out.println("parent = " + Arrays.toString(bfs.getParent()));
+
+        // a random graph of small diameter, where the bottom-up steps pay off
+        int[][] matrix = GraphTools.generateGraphData(2000, 40000, false, false, false, 100001);
+        DirectionOptimizingBFS large = new DirectionOptimizingBFS(new CSRDirectedGraph(matrix));
+        int[] level = large.execBFS(0);
+        System.out.println("\n2000 nodes: max level = " + Arrays.stream(level).max().getAsInt() + ", "
+                + large.nbTopDownSteps + " top-down steps, " + large.nbBottomUpSteps + " bottom-up steps");
+    }
+}
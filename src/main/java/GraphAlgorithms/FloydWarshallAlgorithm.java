@@ -0,0 +1,247 @@
+package GraphAlgorithms;
+
+import AdjacencyMatrix.AdjacencyMatrixDirectedValuedGraph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Floyd-Warshall's all pairs shortest paths on a dense graph, blocked for the cache and run in parallel.
+ * The n*n distances are one row-major int[] cut into BLOCK_SIZE x BLOCK_SIZE tiles. For each block kb of
+ * intermediate nodes: the diagonal tile (kb,kb) is computed first, then the tiles of row kb and column kb
+ * (in parallel, they only read the diagonal tile), then all the other tiles (in parallel, they only read row and column kb).
+ * Each tile update is the usual triple loop restricted to the tile, so it stays in the cache.
+ */
+public class FloydWarshallAlgorithm {
+
+    // side of a tile, 64*64 ints = 16 KB
+    public static final int BLOCK_SIZE = 64;
+
+    // given directed valued graph
+    public AdjacencyMatrixDirectedValuedGraph graph;
+
+    // keep the predecessors (for the paths) or not
+    public boolean withPred;
+
+    // dist[i*n + j] is the distance from i to j, Integer.MAX_VALUE if unreachable
+    public int[] dist;
+
+    // pred[i*n + j] is the predecessor of j on a shortest path from i, -1 if unreachable (null if !withPred)
+    public int[] pred;
+
+    public FloydWarshallAlgorithm(AdjacencyMatrixDirectedValuedGraph graph, boolean withPred){
+        this.graph = graph;
+        this.withPred = withPred;
+    }
+
+    public int[] execFloydWarshall(){
+        return this.execFloydWarshall(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @return the row-major distances
+     * @throws IllegalArgumentException if the n*n distances do not fit in one int[]
+     */
+    public int[] execFloydWarshall(ForkJoinPool pool){
+        // Complexity: O(n^3) work, O(n^3 / BLOCK_SIZE) cache misses, split over the workers
+        int n = this.graph.getNbNodes();
+        if ((long) n * n > Integer.MAX_VALUE - 8){
+            throw new IllegalArgumentException("The " + n + "x" + n + " distances do not fit in one int[]");
+        }
+        int[][] matrix = this.graph.getMatrix();
+        int[][] costs = this.graph.getMatrixCosts();
+
+        // init: the arcs, and 0 from each node to itself (unless there is a negative loop)    O(n^2)
+        this.dist = new int[n * n];
+        this.pred = this.withPred ? new int[n * n] : null;
+        Arrays.fill(this.dist, Integer.MAX_VALUE);
+        if (this.withPred){
+            Arrays.fill(this.pred, -1);
+        }
+        for (int i = 0; i < n; i++){
+            for (int j = 0; j < n; j++){
+                if (matrix[i][j] != 0 || i == j){
+                    this.dist[i * n + j] = i == j ? Math.min(0, matrix[i][j] != 0 ? costs[i][j] : 0) : costs[i][j];
+                    if (this.withPred){
+                        this.pred[i * n + j] = i;
+                    }
+                }
+            }
+        }
+
+        int nbBlocks = (n + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        for (int kb = 0; kb < nbBlocks; kb++){
+            final int k = kb;
+            // phase 1: the diagonal tile
+            updateTile(this.dist, this.pred, n, k, k, k);
+
+            // phase 2: the tiles of row k and of column k
+            List<RecursiveAction> tasks = new ArrayList<>();
+            for (int b = 0; b < nbBlocks; b++){
+                if (b != k){
+                    final int other = b;
+                    tasks.add(tileTask(n, k, other, k));
+                    tasks.add(tileTask(n, other, k, k));
+                }
+            }
+            invokeAll(pool, tasks);
+
+            // phase 3: the other tiles, one task per row of tiles
+            tasks.clear();
+            for (int ib = 0; ib < nbBlocks; ib++){
+                if (ib != k){
+                    final int row = ib;
+                    tasks.add(new RecursiveAction() {
+                        @Override
+                        protected void compute() {
+                            for (int jb = 0; jb < nbBlocks; jb++){
+                                if (jb != k){
+                                    updateTile(dist, pred, n, row, jb, k);
+                                }
+                            }
+                        }
+                    });
+                }
+            }
+            invokeAll(pool, tasks);
+        }
+        return this.dist;
+    }
+
+    private RecursiveAction tileTask(int n, int ib, int jb, int kb){
+        return new RecursiveAction() {
+            @Override
+            protected void compute() {
+                updateTile(dist, pred, n, ib, jb, kb);
+            }
+        };
+    }
+
+    private static void invokeAll(ForkJoinPool pool, List<RecursiveAction> tasks){
+        if (tasks.isEmpty()){
+            return;
+        }
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                ForkJoinTask.invokeAll(tasks);
+            }
+        });
+    }
+
+    /**
+     * Relaxes the tile (ib,jb) through the intermediate nodes of block kb: d(i,j) = min(d(i,j), d(i,k) + d(k,j))
+     */
+    private static void updateTile(int[] dist, int[] pred, int n, int ib, int jb, int kb){
+        int iEnd = Math.min(n, (ib + 1) * BLOCK_SIZE);
+        int jStart = jb * BLOCK_SIZE;
+        int jEnd = Math.min(n, jStart + BLOCK_SIZE);
+        int kEnd = Math.min(n, (kb + 1) * BLOCK_SIZE);
+        for (int k = kb * BLOCK_SIZE; k < kEnd; k++){
+            int rowK = k * n;
+            for (int i = ib * BLOCK_SIZE; i < iEnd; i++){
+                int rowI = i * n;
+                int dik = dist[rowI + k];
+                if (dik == Integer.MAX_VALUE){
+                    continue;
+                }
+                for (int j = jStart; j < jEnd; j++){
+                    int dkj = dist[rowK + j];
+                    if (dkj != Integer.MAX_VALUE && dik + dkj < dist[rowI + j]){
+                        dist[rowI + j] = dik + dkj;
+                        if (pred != null){
+                            pred[rowI + j] = pred[rowK + j];
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return true if the graph has a negative cycle (some node is at a negative distance from itself)
+     */
+    public boolean hasNegativeCycle(){
+        int n = this.graph.getNbNodes();
+        for (int i = 0; i < n; i++){
+            if (this.dist[i * n + i] < 0){
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the distance from i to j, Integer.MAX_VALUE if j is unreachable from i
+     */
+    public int getDist(int i, int j){
+        return this.dist[i * this.graph.getNbNodes() + j];
+    }
+
+    public int[] getDist() {
+        return this.dist;
+    }
+
+    public int[] getPred() {
+        return this.pred;
+    }
+
+    /**
+     * @return the labels of a shortest path from i to j (both included), an empty array if j is unreachable
+     * @throws IllegalStateException if the predecessors were not kept
+     */
+    public int[] getPath(int i, int j){
+        if (this.pred == null){
+            throw new IllegalStateException("The predecessors were not kept, build the algorithm with withPred = true");
+        }
+        int n = this.graph.getNbNodes();
+        if (this.pred[i * n + j] == -1){
+            return new int[0];
+        }
+        int length = 1;
+        for (int x = j; x != i && length <= n; x = this.pred[i * n + x]){
+            length++;
+        }
+        int[] path = new int[length];
+        int x = j;
+        for (int k = length - 1; k >= 0; k--){
+            path[k] = x;
+            x = this.pred[i * n + x];
+        }
+        return path;
+    }
+
+    public void printFloydWarshall(){
+        int n = this.graph.getNbNodes();
+        for (int i = 0; i < n; i++){
+            for (int j = 0; j < n; j++){
+                int d = this.getDist(i, j);
+                System.out.print((d == Integer.MAX_VALUE ? "-" : String.valueOf(d)) + "\t");
+            }
+            System.out.println();
+        }
+    }
+
+    public static void main(String[] args) {
+        int[][] matrixValued = GraphTools.generateValuedGraphData(10, false, false, true, false, 100001);
+        // an arc wherever there is a cost
+        int[][] matrix = new int[10][10];
+        for (int i = 0; i < 10; i++){
+            for (int j = 0; j < 10; j++){
+                matrix[i][j] = matrixValued[i][j] != 0 ? 1 : 0;
+            }
+        }
+        AdjacencyMatrixDirectedValuedGraph graph = new AdjacencyMatrixDirectedValuedGraph(matrix, matrixValued);
+        System.out.println(graph);
+
+        FloydWarshallAlgorithm floydWarshall = new FloydWarshallAlgorithm(graph, true);
+        floydWarshall.execFloydWarshall();
+        floydWarshall.printFloydWarshall();
+        System.out.println("\nnegative cycle: " + floydWarshall.hasNegativeCycle());
+        System.out.println("path 0 -> 9: " + Arrays.toString(floydWarshall.getPath(0, 9)));
+    }
+}
@@ -2,6 +2,7 @@ package GraphAlgorithms;
 
 import AdjacencyList.DirectedGraph;
 import GraphAlgorithms.strategies.ExplorationStrategy;
+import GraphAlgorithms.strategies.TraversalVisitor;
 import GraphAlgorithms.strategies.impl.StrategyBFS;
 import GraphAlgorithms.strategies.impl.StrategyDFS;
 import Nodes.AbstractNode;
@@ -24,6 +25,20 @@ public class GraphExplorer {
         return paths;
     }
 
+    /**
+     * Parcourt tout le graphe avec la stratégie en appelant le visiteur, sans construire les chemins
+     * @return faux si le visiteur a arrêté le parcours
+     */
+    public <T extends AbstractNode> boolean explorerGraphe(List<T> graph, ExplorationStrategy<T> strategy, TraversalVisitor<T> visitor) {
+        Set<T> nodes = new HashSet<>();
+        for(T current : graph) {
+            if(!nodes.contains(current) && !strategy.traverse(current, nodes, visitor)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public static void main(String[] args) {
         GraphExplorer explorer = new GraphExplorer();
 
@@ -63,6 +78,24 @@ public class GraphExplorer {
         List<List<String>> paths = nodes.stream().map(array->array.stream().map(node->names.get(node.getLabel())).collect(Collectors.toList())).collect(Collectors.toList());
         System.out.println("\n------------\nComposantes fortement connexes du graphe G : ");
         System.out.println(paths);
+
+        // Parcours en profondeur avec un visiteur, arrêté dès que D est atteint
+        List<String> ordre = new ArrayList<>();
+        boolean complet = explorer.explorerGraphe(graph.getNodes(), factoryDFS(graph.getNbNodes()), new TraversalVisitor<DirectedNode>() {
+            private boolean trouve = false;
+
+            @Override
+            public void discoverVertex(DirectedNode node) {
+                ordre.add(names.get(node.getLabel()));
+                trouve = node.getLabel() == 3;
+            }
+
+            @Override
+            public boolean stop() {
+                return trouve;
+            }
+        });
+        System.out.println("\n------------\nOrdre de découverte jusqu'à D : " + ordre + " (parcours complet : " + complet + ")");
     }
 
     public static ExplorationStrategy<DirectedNode> factoryBFS(int nbNodes) {
@@ -0,0 +1,50 @@
+package GraphAlgorithms;
+
+/**
+ * Min-priority queue of node labels (0 ... capacity-1) keyed by an int, with decrease-key.
+ * Used by the shortest path algorithms to pick the next node to settle.
+ */
+public interface IPriorityQueue {
+
+    /**
+     * @return true if there is no label in the queue
+     */
+    boolean isEmpty();
+
+    /**
+     * @return true if label is currently in the queue
+     */
+    boolean contains(int label);
+
+    /**
+     * Inserts label with the given key, label must not be in the queue
+     */
+    void insert(int label, int key);
+
+    /**
+     * Lowers the key of label, which must be in the queue
+     */
+    void decreaseKey(int label, int key);
+
+    /**
+     * Removes the label with the smallest key
+     * @return that label
+     */
+    int removeMin();
+
+    /**
+     * Empties the queue so that it can be reused
+     */
+    void clear();
+
+    /**
+     * Inserts label, or lowers its key if it is already in the queue
+     */
+    default void insertOrDecrease(int label, int key) {
+        if (this.contains(label)) {
+            this.decreaseKey(label, key);
+        } else {
+            this.insert(label, key);
+        }
+    }
+}
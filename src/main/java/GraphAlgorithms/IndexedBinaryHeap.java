@@ -0,0 +1,206 @@
+package GraphAlgorithms;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap of node labels (0 ... capacity-1) ordered by an int key, with decrease-key.
+ * Unlike BinaryHeap, the position of each label in the heap is known, so a key can be lowered in place.
+ */
+public class IndexedBinaryHeap implements IPriorityQueue {
+
+    private int[] nodes;        // nodes[i] is the label stored at index i of the heap
+    private int[] keys;         // keys[label] is the key of label
+    private int[] positions;    // positions[label] is the index of label in nodes, -1 if it is not in the heap
+    private int pos;
+
+    /**
+     * @param capacity the number of labels (labels are 0 ... capacity-1)
+     */
+    public IndexedBinaryHeap(int capacity) {
+        this.nodes = new int[capacity];
+        this.keys = new int[capacity];
+        this.positions = new int[capacity];
+        Arrays.fill(this.positions, -1);
+        this.pos = 0;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return pos == 0;
+    }
+
+    public int size() {
+        return pos;
+    }
+
+    /**
+     * @return true if label is currently in the heap
+     */
+    @Override
+    public boolean contains(int label) {
+        return this.positions[label] != -1;
+    }
+
+    /**
+     * @return the key of label (meaningful while label is in the heap, or right after it was removed)
+     */
+    public int getKey(int label) {
+        return this.keys[label];
+    }
+
+    /**
+     * @return the label with the smallest key, without removing it
+     */
+    public int peek() {
+        return this.nodes[0];
+    }
+
+    /**
+     * Empties the heap so that it can be reused
+     * @implNote Complexity: O(this.pos), not O(capacity)
+     */
+    @Override
+    public void clear() {
+        for (int i = 0; i < this.pos; i++) {
+            this.positions[this.nodes[i]] = -1;
+        }
+        this.pos = 0;
+    }
+
+    /**
+     * Inserts label with the given key, label must not be in the heap
+     * @implNote Complexity: O(log_2(this.pos))
+     */
+    @Override
+    public void insert(int label, int key) {
+        int i = this.pos;
+        this.pos++;
+        this.nodes[i] = label;
+        this.keys[label] = key;
+        this.positions[label] = i;
+        this.percolateUp(i);
+    }
+
+    /**
+     * Lowers the key of label, which must be in the heap
+     * @implNote Complexity: O(log_2(this.pos))
+     */
+    @Override
+    public void decreaseKey(int label, int key) {
+        this.keys[label] = key;
+        this.percolateUp(this.positions[label]);
+    }
+
+    /**
+     * Removes the label with the smallest key
+     * @return that label
+     * @implNote Complexity: O(log_2(this.pos))
+     */
+    @Override
+    public int removeMin() {
+        int min = this.nodes[0];
+        this.positions[min] = -1;
+        this.pos--;
+        if (this.pos > 0) {
+            // move the last-used leaf to the root and percolate it down
+            int last = this.nodes[this.pos];
+            this.nodes[0] = last;
+            this.positions[last] = 0;
+            this.percolateDown(0);
+        }
+        return min;
+    }
+
+    private void percolateUp(int i) {
+        int label = this.nodes[i];
+        int key = this.keys[label];
+        while (i != 0) {
+            int parent = (i - 1) / 2;
+            int parentLabel = this.nodes[parent];
+            if (this.keys[parentLabel] <= key) {
+                break;
+            }
+            // the parent goes down, the hole goes up
+            this.nodes[i] = parentLabel;
+            this.positions[parentLabel] = i;
+            i = parent;
+        }
+        this.nodes[i] = label;
+        this.positions[label] = i;
+    }
+
+    private void percolateDown(int i) {
+        int label = this.nodes[i];
+        int key = this.keys[label];
+        while (2 * i + 1 < this.pos) {
+            // picking the smallest child keeps the heap's order property true
+            int child = 2 * i + 1;
+            if (child + 1 < this.pos && this.keys[this.nodes[child + 1]] < this.keys[this.nodes[child]]) {
+                child++;
+            }
+            int childLabel = this.nodes[child];
+            if (this.keys[childLabel] >= key) {
+                break;
+            }
+            this.nodes[i] = childLabel;
+            this.positions[childLabel] = i;
+            i = child;
+        }
+        this.nodes[i] = label;
+        this.positions[label] = i;
+    }
+
+    public String toString() {
+        StringBuilder s = new StringBuilder();
+        for (int i = 0; i < pos; i++) {
+            s.append(nodes[i]).append("(").append(keys[nodes[i]]).append("), ");
+        }
+        return s.toString();
+    }
+
+    /**
+     * Checks the order property and the consistency of the positions
+     *
+     * @returns true if the heap is valid
+     */
+    public boolean test() {
+        for (int i = 0; i < this.pos; i++) {
+            if (this.positions[this.nodes[i]] != i) {
+                return false;
+            }
+            if (i != 0 && this.keys[this.nodes[(i - 1) / 2]] > this.keys[this.nodes[i]]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static void main(String[] args) {
+        int k = 20;
+        int min = 2;
+        int max = 20;
+        IndexedBinaryHeap heap = new IndexedBinaryHeap(k);
+        System.out.println("is it empty: " + heap.isEmpty() + "\n");
+
+        // fill and print inserted values
+        for (int label = 0; label < k; label++) {
+            int rand = min + (int) (Math.random() * ((max - min) + 1));
+            System.out.print("insert " + label + "(" + rand + ")  ");
+            heap.insert(label, rand);
+        }
+        System.out.println("\n" + heap);
+        System.out.println("Is the heap valid : " + heap.test());
+
+        // lower the key of the last label
+        System.out.println("\n--- decrease key of " + (k - 1) + " to 0 ---");
+        heap.decreaseKey(k - 1, 0);
+        System.out.println(heap);
+        System.out.println("Is the heap valid : " + heap.test());
+
+        // remove the min value
+        System.out.println("\n--- Remove the min value ---");
+        System.out.println("removed label = " + heap.removeMin());
+        System.out.println(heap);
+        System.out.println("Is the heap valid : " + heap.test());
+    }
+}
@@ -0,0 +1,35 @@
+package GraphAlgorithms;
+
+import java.util.Arrays;
+
+/**
+ * Growable list of ints used as a frontier or a per-task buffer by the parallel algorithms.
+ * The fields are read directly by the loops of the package (values[0] ... values[size-1]).
+ */
+final class IntList {
+    int[] values = new int[16];
+    int size = 0;
+
+    void add(int v){
+        if (this.size == this.values.length){
+            this.values = Arrays.copyOf(this.values, 2 * this.size);
+        }
+        this.values[this.size++] = v;
+    }
+
+    void addAll(IntList other){
+        if (this.size + other.size > this.values.length){
+            this.values = Arrays.copyOf(this.values, Math.max(2 * this.values.length, this.size + other.size));
+        }
+        System.arraycopy(other.values, 0, this.values, this.size, other.size);
+        this.size += other.size;
+    }
+
+    void clear(){
+        this.size = 0;
+    }
+
+    int[] toArray(){
+        return Arrays.copyOf(this.values, this.size);
+    }
+}
@@ -0,0 +1,182 @@
+package GraphAlgorithms;
+
+import AdjacencyList.DirectedValuedGraph;
+import CompressedSparseRow.CSRDirectedGraph;
+import Nodes.DirectedNode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Johnson's all pairs shortest paths, for sparse graphs with negative costs (but no negative cycle).
+ * One Bellman-Ford run from a virtual source linked to every node by an arc of cost 0 gives potentials h,
+ * then the costs c(u,v) + h(u) - h(v) are non-negative and one Dijkstra per source runs on them, in parallel.
+ * Each worker reuses its own DijkstraWorkspace from one source to the next.
+ * The distances are stored row-major in one int[]: dist[s*n + v] is the distance from s to v.
+ */
+public class JohnsonAlgorithm {
+
+    // given directed valued graph
+    public DirectedValuedGraph graph;
+
+    // potentials of the nodes, from the virtual source
+    public int[] potentials;
+
+    // row-major distances, Integer.MAX_VALUE if unreachable (null if there is a negative cycle)
+    public int[] dist;
+
+    // labels of a negative cycle, an empty array if there is none
+    public int[] negativeCycle;
+
+    public JohnsonAlgorithm(DirectedValuedGraph graph){
+        this.graph = graph;
+    }
+
+    public int[] execJohnson(){
+        return this.execJohnson(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @return the row-major distances, or null if the graph has a negative cycle (which is then in negativeCycle)
+     * @throws IllegalArgumentException if the n*n distances do not fit in one int[]
+     */
+    public int[] execJohnson(ForkJoinPool pool){
+        // Complexity: O(n*m) for the potentials in the worst case, then n runs of Dijkstra split over the workers
+        CSRDirectedGraph csr = new CSRDirectedGraph(this.graph);   // O(n+m)
+        int n = csr.getNbNodes();
+        if ((long) n * n > Integer.MAX_VALUE - 8){
+            throw new IllegalArgumentException("The " + n + "x" + n + " distances do not fit in one int[]");
+        }
+
+        // potentials: every node is a source at distance 0, as if linked to the virtual source
+        int[] all = new int[n];
+        for (int v = 0; v < n; v++){
+            all[v] = v;
+        }
+        BellmanResult bellman = BellmanAlgorithm.execBellmanQueue(csr, all);
+        this.negativeCycle = bellman.getNegativeCycle();
+        if (bellman.hasNegativeCycle()){
+            this.potentials = null;
+            this.dist = null;
+            return null;
+        }
+        this.potentials = bellman.getDist();
+
+        CSRDirectedGraph reweighted = reweight(csr, this.potentials);
+        this.dist = new int[n * n];
+        runAllSources(reweighted, this.potentials, this.dist, pool);
+        return this.dist;
+    }
+
+    /**
+     * @return the graph with the non-negative costs c(u,v) + h(u) - h(v), sharing the arcs of graph
+     */
+    private static CSRDirectedGraph reweight(CSRDirectedGraph graph, int[] h){
+        // Complexity: O(n+m)
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int[] weights = new int[graph.getNbArcs()];
+        for (int u = 0; u < graph.getNbNodes(); u++){
+            for (int a = offsets[u]; a < offsets[u + 1]; a++){
+                weights[a] = graph.getWeight(a) + h[u] - h[targets[a]];
+            }
+        }
+        return new CSRDirectedGraph(offsets, targets, weights);
+    }
+
+    /**
+     * One Dijkstra per source on the reweighted graph, the sources being split into ranges run in parallel
+     */
+    private static void runAllSources(CSRDirectedGraph reweighted, int[] h, int[] out, ForkJoinPool pool){
+        int n = reweighted.getNbNodes();
+        int nbTasks = Math.max(1, Math.min(n, 2 * pool.getParallelism()));
+        List<RecursiveAction> tasks = new ArrayList<>(nbTasks);
+        for (int t = 0; t < nbTasks; t++){
+            int from = (int) ((long) n * t / nbTasks);
+            int to = (int) ((long) n * (t + 1) / nbTasks);
+            tasks.add(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    // one workspace per task, reused for all its sources
+                    DijkstraWorkspace workspace = new DijkstraWorkspace(reweighted);
+                    for (int s = from; s < to; s++){
+                        workspace.run(s);
+                        int row = s * n;
+                        for (int v = 0; v < n; v++){
+                            int d = workspace.dist[v];
+                            // back to the original costs: d(s,v) = d'(s,v) - h(s) + h(v)
+                            out[row + v] = d == Integer.MAX_VALUE ? Integer.MAX_VALUE : d - h[s] + h[v];
+                        }
+                    }
+                }
+            });
+        }
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                ForkJoinTask.invokeAll(tasks);
+            }
+        });
+    }
+
+    /**
+     * @return the distance from u to v, Integer.MAX_VALUE if v is unreachable from u
+     */
+    public int getDist(int u, int v){
+        return this.dist[u * this.graph.getNbNodes() + v];
+    }
+
+    public int[] getDist() {
+        return this.dist;
+    }
+
+    public int[] getPotentials() {
+        return this.potentials;
+    }
+
+    public int[] getNegativeCycle() {
+        return this.negativeCycle;
+    }
+
+    public void printJohnson(){
+        if (this.dist == null){
+            System.out.println("No distances: negative cycle = " + Arrays.toString(this.negativeCycle));
+            return;
+        }
+        int n = this.graph.getNbNodes();
+        for (int u = 0; u < n; u++){
+            for (int v = 0; v < n; v++){
+                int d = this.getDist(u, v);
+                System.out.print((d == Integer.MAX_VALUE ? "-" : String.valueOf(d)) + "\t");
+            }
+            System.out.println();
+        }
+    }
+
+    public static void main(String[] args) {
+        // graph from course's example (same as BellmanAlgorithm)
+        DirectedValuedGraph graph = new DirectedValuedGraph(new int[7][7]);
+        graph.addArc(new DirectedNode(0), new DirectedNode(1),3);
+        graph.addArc(new DirectedNode(0), new DirectedNode(2),1);
+        graph.addArc(new DirectedNode(1), new DirectedNode(4),-2);
+        graph.addArc(new DirectedNode(1), new DirectedNode(5),1);
+        graph.addArc(new DirectedNode(2), new DirectedNode(4),-2);
+        graph.addArc(new DirectedNode(2), new DirectedNode(3),-2);
+        graph.addArc(new DirectedNode(3), new DirectedNode(5),2);
+        graph.addArc(new DirectedNode(4), new DirectedNode(5),6);
+        graph.addArc(new DirectedNode(4), new DirectedNode(6),4);
+        graph.addArc(new DirectedNode(5), new DirectedNode(2),3);
+        graph.addArc(new DirectedNode(5), new DirectedNode(6),-3);
+        graph.addArc(new DirectedNode(6), new DirectedNode(1),2);
+        graph.addArc(new DirectedNode(6), new DirectedNode(0),4);
+
+        JohnsonAlgorithm johnson = new JohnsonAlgorithm(graph);
+        johnson.execJohnson();
+        System.out.println("potentials = " + Arrays.toString(johnson.getPotentials()));
+        johnson.printJohnson();
+    }
+}
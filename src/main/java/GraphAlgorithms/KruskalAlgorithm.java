@@ -0,0 +1,257 @@
+package GraphAlgorithms;
+
+import AdjacencyList.UndirectedValuedGraph;
+import AdjacencyMatrix.AdjacencyMatrixUndirectedValuedGraph;
+import Collection.DisjointSets;
+import Nodes.NeighbourMap;
+import Nodes.UndirectedNode;
+
+import java.util.Arrays;
+
+/**
+ * Kruskal's minimum spanning tree (a forest if the graph is not connected).
+ * The edges are extracted once into int[] (ends and cost), and each one is sorted as a single long
+ * (cost in the high 32 bits, index of the edge in the low ones) with Arrays.parallelSort, which uses every core.
+ * The edges are then scanned in this order and kept when they join two trees of a DisjointSets.
+ * The Filter-Kruskal mode only sorts what it needs: it splits the edges around a pivot, runs on the light ones first,
+ * then drops the heavy edges whose ends are already in the same tree before going on with the rest.
+ */
+public class KruskalAlgorithm {
+
+    // under this number of edges, the Filter-Kruskal mode sorts instead of splitting
+    public static final int FILTER_THRESHOLD = 4096;
+
+    public int nbNodes;
+
+    // edge e links edgeFrom[e] and edgeTo[e] with the cost edgeCost[e]
+    public int[] edgeFrom;
+
+    public int[] edgeTo;
+
+    public int[] edgeCost;
+
+    public UndirectedValuedGraph minSpanningTree;
+
+    public int cost;
+
+    // indices of the edges of the tree, in the order they were picked
+    public int[] treeEdges;
+
+    public int nbTreeEdges;
+
+    public KruskalAlgorithm(UndirectedValuedGraph graph){
+        // Complexity: O(n+m)
+        this.nbNodes = graph.getNbNodes();
+        int nbEdges = 0;
+        for (UndirectedNode u : graph.getNodes()){
+            NeighbourMap<UndirectedNode> neighbours = u.getNeighbours();
+            for (int i = 0; i < neighbours.size(); i++){
+                if (neighbours.labelAt(i) > u.getLabel()){
+                    nbEdges++;
+                }
+            }
+        }
+        this.allocate(nbEdges);
+        int e = 0;
+        for (UndirectedNode u : graph.getNodes()){
+            NeighbourMap<UndirectedNode> neighbours = u.getNeighbours();
+            for (int i = 0; i < neighbours.size(); i++){
+                // each edge once, from its smallest end (loops never join two trees)
+                if (neighbours.labelAt(i) > u.getLabel()){
+                    this.edgeFrom[e] = u.getLabel();
+                    this.edgeTo[e] = neighbours.labelAt(i);
+                    this.edgeCost[e] = neighbours.valueAt(i);
+                    e++;
+                }
+            }
+        }
+    }
+
+    public KruskalAlgorithm(AdjacencyMatrixUndirectedValuedGraph graph){
+        // Complexity: O(n^2)
+        this.nbNodes = graph.getNbNodes();
+        int[][] matrix = graph.getMatrix();
+        int[][] costs = graph.getMatrixCosts();
+        int nbEdges = 0;
+        for (int i = 0; i < this.nbNodes; i++){
+            for (int j = i + 1; j < this.nbNodes; j++){
+                if (matrix[i][j] != 0){
+                    nbEdges++;
+                }
+            }
+        }
+        this.allocate(nbEdges);
+        int e = 0;
+        for (int i = 0; i < this.nbNodes; i++){
+            for (int j = i + 1; j < this.nbNodes; j++){
+                // parallel edges share one cost, a single one is enough
+                if (matrix[i][j] != 0){
+                    this.edgeFrom[e] = i;
+                    this.edgeTo[e] = j;
+                    this.edgeCost[e] = costs[i][j];
+                    e++;
+                }
+            }
+        }
+    }
+
+    private void allocate(int nbEdges){
+        this.edgeFrom = new int[nbEdges];
+        this.edgeTo = new int[nbEdges];
+        this.edgeCost = new int[nbEdges];
+    }
+
+    /**
+     * Sorts all the edges then scans them
+     */
+    public void execKruskal(){
+        // Complexity: O(m*log_2(m)) for the sort, split over the workers, then O(m*α(n))
+        long[] keys = this.sortKeys();
+        Arrays.parallelSort(keys);
+        DisjointSets sets = this.init();
+        this.scan(keys, 0, keys.length, sets);
+        this.buildTree();
+    }
+
+    /**
+     * Filter-Kruskal: the heavy edges are only sorted if the light ones did not complete the tree,
+     * and only those still linking two trees
+     */
+    public void execFilterKruskal(){
+        // Complexity: O(m + n*log_2(n)*log_2(m/n)) expected on random costs
+        long[] keys = this.sortKeys();
+        DisjointSets sets = this.init();
+        this.filterKruskal(keys, 0, keys.length, sets);
+        this.buildTree();
+    }
+
+    private long[] sortKeys(){
+        long[] keys = new long[this.edgeCost.length];
+        for (int e = 0; e < keys.length; e++){
+            // the signed cost first: the order of the longs is the order of the costs
+            keys[e] = ((long) this.edgeCost[e] << 32) | e;
+        }
+        return keys;
+    }
+
+    private DisjointSets init(){
+        this.treeEdges = new int[Math.max(0, this.nbNodes - 1)];
+        this.nbTreeEdges = 0;
+        this.cost = 0;
+        return new DisjointSets(this.nbNodes);
+    }
+
+    /**
+     * Keeps the edges of keys[from ... to-1] (sorted) which join two trees
+     */
+    private void scan(long[] keys, int from, int to, DisjointSets sets){
+        for (int k = from; k < to && this.nbTreeEdges < this.treeEdges.length; k++){
+            int e = (int) keys[k];
+            if (sets.union(this.edgeFrom[e], this.edgeTo[e])){
+                this.treeEdges[this.nbTreeEdges++] = e;
+                this.cost += this.edgeCost[e];
+            }
+        }
+    }
+
+    private void filterKruskal(long[] keys, int from, int to, DisjointSets sets){
+        if (this.nbTreeEdges == this.treeEdges.length || from >= to){
+            return;
+        }
+        if (to - from <= FILTER_THRESHOLD){
+            Arrays.parallelSort(keys, from, to);
+            this.scan(keys, from, to, sets);
+            return;
+        }
+
+        // pivot: median of three keys; the keys are all different, so both sides get at least one
+        long pivot = median(keys[from], keys[from + (to - from) / 2], keys[to - 1]);
+        int mid = from;
+        for (int k = from; k < to; k++){
+            if (keys[k] <= pivot){
+                long tmp = keys[k];
+                keys[k] = keys[mid];
+                keys[mid] = tmp;
+                mid++;
+            }
+        }
+        this.filterKruskal(keys, from, mid, sets);
+
+        // filter: the heavy edges whose ends are already in the same tree cannot join it
+        int kept = mid;
+        for (int k = mid; k < to && this.nbTreeEdges < this.treeEdges.length; k++){
+            int e = (int) keys[k];
+            if (sets.find(this.edgeFrom[e]) != sets.find(this.edgeTo[e])){
+                keys[kept++] = keys[k];
+            }
+        }
+        this.filterKruskal(keys, mid, kept, sets);
+    }
+
+    private static long median(long a, long b, long c){
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+
+    private void buildTree(){
+        this.minSpanningTree = new UndirectedValuedGraph(this.nbNodes);
+        for (int k = 0; k < this.nbTreeEdges; k++){
+            int e = this.treeEdges[k];
+            this.minSpanningTree.addEdge(new UndirectedNode(this.edgeFrom[e]), new UndirectedNode(this.edgeTo[e]), this.edgeCost[e]);
+        }
+    }
+
+    public int getCost() {
+        return this.cost;
+    }
+
+    public UndirectedValuedGraph getMinSpanningTree(){
+        return this.minSpanningTree;
+    }
+
+    public int[] getTreeEdges() {
+        return Arrays.copyOf(this.treeEdges, this.nbTreeEdges);
+    }
+
+    /**
+     * @return true if the tree spans every node (the graph is connected)
+     */
+    public boolean isSpanning(){
+        return this.nbTreeEdges == this.nbNodes - 1;
+    }
+
+    public static void main(String[] args) {
+        // Graph from course's example (same as PrimAlgorithm)
+        int A = 0, B=1, C=2, D=3, E=4, F=5, G=6, H=7;
+        UndirectedValuedGraph graph = new UndirectedValuedGraph(new int[8][8]);
+        graph.addEdge(new UndirectedNode(A), new UndirectedNode(B),4);
+        graph.addEdge(new UndirectedNode(A), new UndirectedNode(D),6);
+        graph.addEdge(new UndirectedNode(A), new UndirectedNode(G),2);
+        graph.addEdge(new UndirectedNode(B), new UndirectedNode(E),5);
+        graph.addEdge(new UndirectedNode(B), new UndirectedNode(C),2);
+        graph.addEdge(new UndirectedNode(C), new UndirectedNode(E),6);
+        graph.addEdge(new UndirectedNode(C), new UndirectedNode(H),5);
+        graph.addEdge(new UndirectedNode(C), new UndirectedNode(D),7);
+        graph.addEdge(new UndirectedNode(D), new UndirectedNode(F),8);
+        graph.addEdge(new UndirectedNode(F), new UndirectedNode(G),7);
+        graph.addEdge(new UndirectedNode(F), new UndirectedNode(H),3);
+        graph.addEdge(new UndirectedNode(H), new UndirectedNode(G),5);
+        graph.addEdge(new UndirectedNode(G), new UndirectedNode(E),4);
+
+        KruskalAlgorithm kruskal = new KruskalAlgorithm(graph);
+        kruskal.execKruskal();
+        System.out.println("cost = " + kruskal.getCost());
+        System.out.println("resulting minimum spanning tree:\n" + kruskal.getMinSpanningTree());
+
+        kruskal.execFilterKruskal();
+        System.out.println("Filter-Kruskal: cost = " + kruskal.getCost());
+
+        // on the adjacency matrix implementation
+        int[][] matrix = GraphTools.generateGraphData(10, 20, true, true, false, 100001);
+        int[][] matrixValued = GraphTools.generateValuedGraphData(10, false, true, true, false, 100001);
+        AdjacencyMatrixUndirectedValuedGraph am = new AdjacencyMatrixUndirectedValuedGraph(matrix, matrixValued);
+        KruskalAlgorithm kruskalMatrix = new KruskalAlgorithm(am);
+        kruskalMatrix.execKruskal();
+        System.out.println("\nadjacency matrix: cost = " + kruskalMatrix.getCost() + ", spanning = " + kruskalMatrix.isSpanning());
+        System.out.println("tree edges = " + Arrays.toString(kruskalMatrix.getTreeEdges()));
+    }
+}
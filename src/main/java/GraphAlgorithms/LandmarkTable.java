@@ -0,0 +1,244 @@
+package GraphAlgorithms;
+
+import AdjacencyList.DirectedValuedGraph;
+import CompressedSparseRow.CSRDirectedGraph;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+/**
+ * Landmark distance tables for ALT (A*, Landmarks, Triangle inequality) searches.
+ * For each landmark l, the distances d(l,v) and d(v,l) to and from every node v are stored,
+ * so that d(v,t) >= d(l,t) - d(l,v) and d(v,t) >= d(v,l) - d(t,l) give a lower bound of d(v,t).
+ * The tables are node-major (the k distances of a node are contiguous) since a bound reads all of them.
+ */
+public class LandmarkTable {
+
+    // first int of a saved table
+    private static final int MAGIC = 0x414C5431; // "ALT1"
+
+    private final int order;        // Number of vertices
+    private final int[] landmarks;  // labels of the landmarks
+    private final int[] distFrom;   // distFrom[v*k + i] = d(landmarks[i], v), Integer.MAX_VALUE if unreachable
+    private final int[] distTo;     // distTo[v*k + i] = d(v, landmarks[i]), Integer.MAX_VALUE if unreachable
+
+    private LandmarkTable(int order, int[] landmarks, int[] distFrom, int[] distTo) {
+        this.order = order;
+        this.landmarks = landmarks;
+        this.distFrom = distFrom;
+        this.distTo = distTo;
+    }
+
+    /**
+     * Preprocessing: picks k landmarks by farthest selection and computes their distance tables.
+     * The first landmark is the node farthest from node 0, and each following one is the node maximizing
+     * its distance to the closest landmark already chosen (a node unreachable from all of them is taken first).
+     * @implNote Complexity: 2k runs of Dijkstra's algorithm, O(k(n+m)) with small costs
+     */
+    public static LandmarkTable compute(DirectedValuedGraph graph, int k) {
+        CSRDirectedGraph forward = new CSRDirectedGraph(graph);
+        CSRDirectedGraph backward = forward.computeInverse();
+        int n = forward.getNbNodes();
+        k = Math.min(k, n);
+        int[] landmarks = new int[k];
+        int[] distFrom = new int[n * k];
+        int[] distTo = new int[n * k];
+
+        int[] dist = new int[n];
+        int[] pred = new int[n];
+        IPriorityQueue queueForward = DijkstraAlgorithm.chooseQueue(forward);
+        IPriorityQueue queueBackward = DijkstraAlgorithm.chooseQueue(backward);
+        // closest[v] = distance from the closest landmark chosen so far to v
+        int[] closest = new int[n];
+        if (k > 0) {
+            DijkstraAlgorithm.execDijkstraQueue(forward, 0, closest, pred, queueForward);
+        }
+        for (int i = 0; i < k; i++) {
+            // farthest selection   O(n)
+            int l = -1;
+            for (int v = 0; v < n; v++) {
+                if (closest[v] != 0 && (l == -1 || closest[v] > closest[l])) {
+                    l = v;
+                }
+            }
+            if (l == -1) {
+                // every node is at distance 0 of a landmark, take the first one not chosen yet
+                l = firstNotChosen(landmarks, i, n);
+            }
+            landmarks[i] = l;
+
+            // forward distances d(l,v)
+            DijkstraAlgorithm.execDijkstraQueue(forward, l, dist, pred, queueForward);
+            for (int v = 0; v < n; v++) {
+                distFrom[v * k + i] = dist[v];
+                closest[v] = Math.min(closest[v], dist[v]);
+            }
+            closest[l] = 0;
+            // backward distances d(v,l), on the inverse graph
+            DijkstraAlgorithm.execDijkstraQueue(backward, l, dist, pred, queueBackward);
+            for (int v = 0; v < n; v++) {
+                distTo[v * k + i] = dist[v];
+            }
+        }
+        return new LandmarkTable(n, landmarks, distFrom, distTo);
+    }
+
+    private static int firstNotChosen(int[] landmarks, int nbChosen, int n) {
+        for (int v = 0; v < n; v++) {
+            boolean chosen = false;
+            for (int i = 0; i < nbChosen && !chosen; i++) {
+                chosen = landmarks[i] == v;
+            }
+            if (!chosen) {
+                return v;
+            }
+        }
+        return 0;
+    }
+
+    // ------------------------------------------
+    // 				Accessors
+    // ------------------------------------------
+
+    public int getNbNodes() {
+        return this.order;
+    }
+
+    public int getNbLandmarks() {
+        return this.landmarks.length;
+    }
+
+    public int[] getLandmarks() {
+        return this.landmarks;
+    }
+
+    /**
+     * @return d(landmarks[i], v), Integer.MAX_VALUE if v is unreachable from the landmark
+     */
+    public int getDistFrom(int i, int v) {
+        return this.distFrom[v * this.landmarks.length + i];
+    }
+
+    /**
+     * @return d(v, landmarks[i]), Integer.MAX_VALUE if the landmark is unreachable from v
+     */
+    public int getDistTo(int i, int v) {
+        return this.distTo[v * this.landmarks.length + i];
+    }
+
+    // ------------------------------------------------
+    // 					Methods
+    // ------------------------------------------------
+
+    /**
+     * @return a lower bound of d(v,t), the best triangle inequality over the landmarks.  O(k)
+     */
+    public int lowerBound(int v, int t) {
+        int k = this.landmarks.length;
+        int vk = v * k;
+        int tk = t * k;
+        int bound = 0;
+        for (int i = 0; i < k; i++) {
+            // d(v,t) >= d(l,t) - d(l,v), only meaningful if l reaches v
+            int lv = this.distFrom[vk + i];
+            int lt = this.distFrom[tk + i];
+            if (lv != Integer.MAX_VALUE && lt != Integer.MAX_VALUE && lt - lv > bound) {
+                bound = lt - lv;
+            }
+            // d(v,t) >= d(v,l) - d(t,l), only meaningful if t reaches l
+            int vl = this.distTo[vk + i];
+            int tl = this.distTo[tk + i];
+            if (vl != Integer.MAX_VALUE && tl != Integer.MAX_VALUE && vl - tl > bound) {
+                bound = vl - tl;
+            }
+        }
+        return bound;
+    }
+
+    /**
+     * Saves the table: MAGIC, n, k, the k landmarks, then distFrom and distTo (n*k ints each), big-endian
+     */
+    public void save(String fileName) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(fileName)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(this.order);
+            out.writeInt(this.landmarks.length);
+            for (int l : this.landmarks) {
+                out.writeInt(l);
+            }
+            for (int d : this.distFrom) {
+                out.writeInt(d);
+            }
+            for (int d : this.distTo) {
+                out.writeInt(d);
+            }
+        }
+    }
+
+    /**
+     * Loads a table written by save
+     * @throws IOException if the file cannot be read or is not a landmark table
+     */
+    public static LandmarkTable load(String fileName) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(fileName)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException(fileName + " is not a landmark table");
+            }
+            int n = in.readInt();
+            int k = in.readInt();
+            if (n < 0 || k < 0 || k > n) {
+                throw new IOException(fileName + " is corrupted: n = " + n + ", k = " + k);
+            }
+            int[] landmarks = new int[k];
+            for (int i = 0; i < k; i++) {
+                landmarks[i] = in.readInt();
+            }
+            int[] distFrom = new int[n * k];
+            for (int i = 0; i < distFrom.length; i++) {
+                distFrom[i] = in.readInt();
+            }
+            int[] distTo = new int[n * k];
+            for (int i = 0; i < distTo.length; i++) {
+                distTo[i] = in.readInt();
+            }
+            return new LandmarkTable(n, landmarks, distFrom, distTo);
+        }
+    }
+
+    public String toString() {
+        StringBuilder s = new StringBuilder("Landmarks: ");
+        for (int l : this.landmarks) {
+            s.append(l).append(", ");
+        }
+        s.append("\n");
+        for (int v = 0; v < this.order; v++) {
+            s.append("node-").append(v).append(" : ");
+            for (int i = 0; i < this.landmarks.length; i++) {
+                s.append("(").append(this.getDistFrom(i, v)).append(",").append(this.getDistTo(i, v)).append(")  ");
+            }
+            s.append("\n");
+        }
+        return s.toString();
+    }
+
+    public static void main(String[] args) throws IOException {
+        int[][] matrixValued = GraphTools.generateValuedGraphData(10, false, false, true, false, 100001);
+        DirectedValuedGraph graph = new DirectedValuedGraph(matrixValued);
+        LandmarkTable table = LandmarkTable.compute(graph, 3);
+        System.out.println(table);
+
+        // save and load it back
+        File file = File.createTempFile("landmarks", ".alt");
+        file.deleteOnExit();
+        table.save(file.getPath());
+        LandmarkTable loaded = LandmarkTable.load(file.getPath());
+        System.out.println("loaded " + loaded.getNbLandmarks() + " landmarks from " + file.length() + " bytes");
+        System.out.println("lower bound of d(0,9): " + loaded.lowerBound(0, 9));
+    }
+}
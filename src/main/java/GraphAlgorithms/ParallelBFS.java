@@ -0,0 +1,171 @@
+package GraphAlgorithms;
+
+import Abstraction.IDirectedGraph;
+import CompressedSparseRow.CSRDirectedGraph;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Level-synchronous breadth first search on several cores, in O(n+m) work and O(n) memory
+ * (unlike StrategyBFS, which queues a copy of the path to every node).
+ * Each level splits the frontier into ranges expanded in parallel: a worker claims a successor by setting its parent
+ * with a compare-and-set, and writes it to its own next-frontier buffer. The buffers are then copied one after
+ * the other into the next frontier, so no lock is taken.
+ */
+public class ParallelBFS {
+
+    // atomic access to the cells of an int[]
+    private static final VarHandle INT_ARRAY = MethodHandles.arrayElementVarHandle(int[].class);
+
+    // under this frontier size, the level is expanded by the calling thread
+    public static final int SEQUENTIAL_THRESHOLD = 1024;
+
+    public CSRDirectedGraph graph;
+
+    // level[v] is the number of arcs from the nearest source to v, -1 if v is unreachable
+    public int[] level;
+
+    // parent[v] is the predecessor of v in the BFS tree, v itself for a source, -1 if v is unreachable
+    public int[] parent;
+
+    public ParallelBFS(IDirectedGraph graph){
+        this.graph = graph instanceof CSRDirectedGraph ? (CSRDirectedGraph) graph : new CSRDirectedGraph(graph, false);   // O(n+m)
+    }
+
+    public int[] execBFS(int src){
+        return this.execBFS(new int[]{src}, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * BFS from all the sources at once (each at level 0)
+     * @return parent, the BFS tree
+     */
+    public int[] execBFS(int[] sources, ForkJoinPool pool){
+        // Complexity: O(n+m) work, each level split over the workers
+        int n = this.graph.getNbNodes();
+        this.parent = new int[n];
+        this.level = new int[n];
+        Arrays.fill(this.parent, -1);
+        Arrays.fill(this.level, -1);
+
+        int[] frontier = new int[n];
+        int size = 0;
+        for (int s : sources){
+            if (this.parent[s] == -1){
+                this.parent[s] = s;
+                this.level[s] = 0;
+                frontier[size++] = s;
+            }
+        }
+        int[] next = new int[n];
+        int depth = 0;
+        while (size > 0){
+            depth++;
+            size = this.expand(frontier, size, next, depth, pool);
+            int[] tmp = frontier;
+            frontier = next;
+            next = tmp;
+        }
+        return this.parent;
+    }
+
+    /**
+     * Expands frontier[0 ... size-1] into next
+     * @return the size of the next frontier
+     */
+    private int expand(int[] frontier, int size, int[] next, int depth, ForkJoinPool pool){
+        if (size < SEQUENTIAL_THRESHOLD){
+            ExpandTask task = new ExpandTask(this.graph, frontier, 0, size, this.parent, this.level, depth);
+            task.compute();
+            System.arraycopy(task.claimed.values, 0, next, 0, task.claimed.size);
+            return task.claimed.size;
+        }
+        int nbTasks = Math.min(4 * pool.getParallelism(), size / (SEQUENTIAL_THRESHOLD / 4));
+        List<ExpandTask> tasks = new ArrayList<>(nbTasks);
+        for (int t = 0; t < nbTasks; t++){
+            int from = (int) ((long) size * t / nbTasks);
+            int to = (int) ((long) size * (t + 1) / nbTasks);
+            tasks.add(new ExpandTask(this.graph, frontier, from, to, this.parent, this.level, depth));
+        }
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                ForkJoinTask.invokeAll(tasks);
+            }
+        });
+        // the buffers one after the other, each node being in exactly one of them
+        int nextSize = 0;
+        for (ExpandTask task : tasks){
+            System.arraycopy(task.claimed.values, 0, next, nextSize, task.claimed.size);
+            nextSize += task.claimed.size;
+        }
+        return nextSize;
+    }
+
+    /**
+     * Expansion of the frontier nodes from ... to-1, the claimed successors going to its own buffer
+     */
+    private static final class ExpandTask extends RecursiveAction {
+        private final int[] offsets, targets, frontier, parent, level;
+        private final int from, to, depth;
+        private final IntList claimed = new IntList();
+
+        ExpandTask(CSRDirectedGraph graph, int[] frontier, int from, int to, int[] parent, int[] level, int depth){
+            this.offsets = graph.getOffsets();
+            this.targets = graph.getTargets();
+            this.frontier = frontier;
+            this.from = from;
+            this.to = to;
+            this.parent = parent;
+            this.level = level;
+            this.depth = depth;
+        }
+
+        @Override
+        protected void compute() {
+            for (int k = this.from; k < this.to; k++){
+                int v = this.frontier[k];
+                for (int a = this.offsets[v]; a < this.offsets[v + 1]; a++){
+                    int w = this.targets[a];
+                    // plain read first: most successors are already claimed on dense levels
+                    if (this.parent[w] == -1 && INT_ARRAY.compareAndSet(this.parent, w, -1, v)){
+                        // read after the join, which makes it visible
+                        this.level[w] = this.depth;
+                        this.claimed.add(w);
+                    }
+                }
+            }
+        }
+    }
+
+    public int[] getLevel() {
+        return this.level;
+    }
+
+    public int[] getParent() {
+        return this.parent;
+    }
+
+    public static void main(String[] args) {
+        // graph G from the GraphExplorer example
+        ParallelBFS bfs = new ParallelBFS(new GraphExplorer().getGraph());
+        bfs.execBFS(0);
+        System.out.println("level = " + Arrays.toString(bfs.getLevel()));
+        System.out.println("parent = " + Arrays.toString(bfs.getParent()));
+
+        // a larger random graph, with the levels checked against the direction-optimizing BFS
+        int[][] matrix = GraphTools.generateGraphData(5000, 60000, false, false, false, 100001);
+        CSRDirectedGraph graph = new CSRDirectedGraph(matrix);
+        ParallelBFS large = new ParallelBFS(graph);
+        large.execBFS(0);
+        DirectionOptimizingBFS reference = new DirectionOptimizingBFS(graph);
+        System.out.println("\n5000 nodes: same levels = " + Arrays.equals(large.getLevel(), reference.execBFS(0)));
+    }
+}
@@ -0,0 +1,215 @@
+package GraphAlgorithms;
+
+import AdjacencyList.DirectedValuedGraph;
+import CompressedSparseRow.CSRDirectedGraph;
+import Nodes.DirectedNode;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Bellman-Ford on several cores. Each round relaxes every arc: the nodes are split into ranges holding about
+ * the same number of arcs, and the ranges are relaxed in parallel on a ForkJoin pool.
+ * The distance and the predecessor of a node are packed in one long (distance in the high 32 bits),
+ * so that a relaxation updates both with a single compare-and-set. Each task raises its own changed flag,
+ * and the rounds stop when no flag is raised; a change in round n means a negative cycle.
+ */
+public class ParallelBellmanAlgorithm {
+
+    // atomic access to the cells of a long[]
+    private static final VarHandle LONG_ARRAY = MethodHandles.arrayElementVarHandle(long[].class);
+
+    // packed value of an unreachable node
+    private static final long UNREACHABLE = pack(Integer.MAX_VALUE, -1);
+
+    // given directed valued graph
+    public DirectedValuedGraph graph;
+
+    // source node
+    public DirectedNode src;
+
+    public BellmanResult result;
+
+    public ParallelBellmanAlgorithm(DirectedValuedGraph graph, DirectedNode src){
+        this.graph = graph;
+        this.src = graph.getNodes().get(src.getLabel());
+    }
+
+    public BellmanResult execParallelBellman(){
+        return this.execParallelBellman(ForkJoinPool.commonPool());
+    }
+
+    public BellmanResult execParallelBellman(ForkJoinPool pool){
+        CSRDirectedGraph csr = new CSRDirectedGraph(this.graph);   // O(n+m)
+        this.result = execParallelBellman(csr, new int[]{this.src.getLabel()}, pool);
+        return this.result;
+    }
+
+    /**
+     * Parallel Bellman-Ford from sources (all at distance 0) on pool.
+     * @return the distances and predecessors, and a negative cycle if one is reachable
+     */
+    public static BellmanResult execParallelBellman(CSRDirectedGraph graph, int[] sources, ForkJoinPool pool){
+        // Complexity: O(n*m) work in the worst case, O(m) per round split over the workers
+        int n = graph.getNbNodes();
+        long[] packed = new long[n];
+        Arrays.fill(packed, UNREACHABLE);
+        for (int s : sources){
+            packed[s] = pack(0, s);
+        }
+
+        List<Round> tasks = partition(graph, packed, 4 * pool.getParallelism());
+        boolean changed = true;
+        int rounds = 0;
+        // at most n-1 useful rounds, a change in round n is due to a negative cycle
+        while (changed && rounds < n){
+            for (Round task : tasks){
+                task.reinitialize();
+            }
+            pool.invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    ForkJoinTask.invokeAll(tasks);
+                }
+            });
+            changed = false;
+            for (Round task : tasks){
+                changed |= task.changed;
+            }
+            rounds++;
+        }
+
+        int[] dist = new int[n];
+        int[] pred = new int[n];
+        for (int v = 0; v < n; v++){
+            dist[v] = (int) (packed[v] >> 32);
+            pred[v] = (int) packed[v];
+        }
+        if (!changed){
+            return new BellmanResult(dist, pred, new int[0]);
+        }
+        int[] cycle = BellmanAlgorithm.findPredCycle(pred);
+        if (cycle.length == 0){
+            // no cycle in the predecessors (a negative loop, or a cycle broken by the last updates):
+            // the sequential work-list finds one
+            return BellmanAlgorithm.execBellmanQueue(graph, sources);
+        }
+        return new BellmanResult(dist, pred, cycle);
+    }
+
+    /**
+     * Splits the nodes into at most nbTasks ranges of about m/nbTasks arcs each
+     */
+    private static List<Round> partition(CSRDirectedGraph graph, long[] packed, int nbTasks){
+        int n = graph.getNbNodes();
+        int[] offsets = graph.getOffsets();
+        List<Round> tasks = new ArrayList<>(nbTasks);
+        long arcsPerTask = Math.max(1, (long) graph.getNbArcs() / Math.max(1, nbTasks));
+        int from = 0;
+        while (from < n){
+            // first node after from whose arcs start past the share of this task
+            long limit = offsets[from] + arcsPerTask;
+            int to = from + 1;
+            while (to < n && offsets[to] < limit){
+                to++;
+            }
+            tasks.add(new Round(graph, packed, from, to));
+            from = to;
+        }
+        return tasks;
+    }
+
+    /**
+     * One round of relaxations over the arcs of the nodes from ... to-1
+     */
+    private static final class Round extends RecursiveAction {
+        private final int[] offsets, targets, weights;
+        private final long[] packed;
+        private final int from, to;
+        private boolean changed;
+
+        Round(CSRDirectedGraph graph, long[] packed, int from, int to){
+            this.offsets = graph.getOffsets();
+            this.targets = graph.getTargets();
+            this.weights = graph.getWeights();
+            this.packed = packed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            boolean improved = false;
+            for (int u = this.from; u < this.to; u++){
+                int du = (int) ((long) LONG_ARRAY.getVolatile(this.packed, u) >> 32);
+                if (du == Integer.MAX_VALUE){
+                    continue;
+                }
+                for (int a = this.offsets[u]; a < this.offsets[u + 1]; a++){
+                    int dv = du + (this.weights == null ? 0 : this.weights[a]);
+                    if (atomicMin(this.packed, this.targets[a], dv, u)){
+                        improved = true;
+                    }
+                }
+            }
+            // read by the caller after the join, which makes it visible
+            this.changed = improved;
+        }
+    }
+
+    /**
+     * Replaces packed[v] by (d, u) if d is smaller than the distance it holds, atomically
+     * @return true if it was replaced
+     */
+    private static boolean atomicMin(long[] packed, int v, int d, int u){
+        long update = pack(d, u);
+        long old = (long) LONG_ARRAY.getVolatile(packed, v);
+        while (d < (int) (old >> 32)){
+            if (LONG_ARRAY.compareAndSet(packed, v, old, update)){
+                return true;
+            }
+            old = (long) LONG_ARRAY.getVolatile(packed, v);
+        }
+        return false;
+    }
+
+    private static long pack(int dist, int pred){
+        return ((long) dist << 32) | (pred & 0xFFFFFFFFL);
+    }
+
+    public BellmanResult getResult() {
+        return this.result;
+    }
+
+    public static void main(String[] args) {
+        // graph from course's example (same as BellmanAlgorithm)
+        DirectedValuedGraph graph = new DirectedValuedGraph(new int[7][7]);
+        graph.addArc(new DirectedNode(0), new DirectedNode(1),3);
+        graph.addArc(new DirectedNode(0), new DirectedNode(2),1);
+        graph.addArc(new DirectedNode(1), new DirectedNode(4),-2);
+        graph.addArc(new DirectedNode(1), new DirectedNode(5),1);
+        graph.addArc(new DirectedNode(2), new DirectedNode(4),-2);
+        graph.addArc(new DirectedNode(2), new DirectedNode(3),-2);
+        graph.addArc(new DirectedNode(3), new DirectedNode(5),2);
+        graph.addArc(new DirectedNode(4), new DirectedNode(5),6);
+        graph.addArc(new DirectedNode(4), new DirectedNode(6),4);
+        graph.addArc(new DirectedNode(5), new DirectedNode(2),3);
+        graph.addArc(new DirectedNode(5), new DirectedNode(6),-3);
+        graph.addArc(new DirectedNode(6), new DirectedNode(1),2);
+        graph.addArc(new DirectedNode(6), new DirectedNode(0),4);
+
+        ParallelBellmanAlgorithm parallelBellman = new ParallelBellmanAlgorithm(graph, new DirectedNode(0));
+        System.out.print(parallelBellman.execParallelBellman());
+
+        // the arc (6,4) of cost -5 makes the cycle 4 -> 6 -> 4 negative
+        graph.addArc(new DirectedNode(6), new DirectedNode(4),-5);
+        System.out.println("\nWith the arc (6,4) of cost -5:");
+        System.out.print(new ParallelBellmanAlgorithm(graph, new DirectedNode(0)).execParallelBellman());
+    }
+}
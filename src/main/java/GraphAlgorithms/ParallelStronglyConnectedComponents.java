@@ -0,0 +1,451 @@
+package GraphAlgorithms;
+
+import Abstraction.IDirectedGraph;
+import CompressedSparseRow.CSRDirectedGraph;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Strongly connected components on several cores, in four steps (the "multistep" method):
+ *  1. trim: a node without live predecessor or without live successor is a component on its own; removing it
+ *     may trim its neighbours, which are found with atomic counters of live predecessors and successors,
+ *  2. forward-backward: the nodes both reachable from a pivot (of large degrees) and reaching it make its component,
+ *     usually the giant one; both searches are parallel BFS,
+ *  3. coloring: each node takes the largest label that reaches it (propagated in parallel until stable), then
+ *     the nodes of a color reaching the node of that label make its component, all colors being handled in parallel,
+ *  4. below SEQUENTIAL_THRESHOLD remaining nodes, StronglyConnectedComponents (Tarjan) ends the work.
+ * During the run each found node holds a representative (a node of its component); they are numbered at the end,
+ * by increasing smallest label, so that the ids do not depend on the scheduling.
+ */
+public class ParallelStronglyConnectedComponents {
+
+    // atomic access to the cells of an int[]
+    private static final VarHandle INT_ARRAY = MethodHandles.arrayElementVarHandle(int[].class);
+
+    // under this size, a frontier is handled by the calling thread and the remaining nodes by Tarjan's algorithm
+    public static final int SEQUENTIAL_THRESHOLD = 4096;
+
+    public CSRDirectedGraph graph;
+
+    public CSRDirectedGraph inverse;
+
+    // comp[v] is the id of the component of v, from 0 to nbComponents-1
+    public int[] comp;
+
+    public int nbComponents;
+
+    // what each step found, for the last run
+    public int nbTrimmed;
+
+    public int pivotComponentSize;
+
+    public int nbColoringRounds;
+
+    public ParallelStronglyConnectedComponents(IDirectedGraph graph){
+        this.graph = graph instanceof CSRDirectedGraph ? (CSRDirectedGraph) graph : new CSRDirectedGraph(graph, false);   // O(n+m)
+    }
+
+    public int[] execSCC(){
+        return this.execSCC(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @return comp, the component id of each node
+     */
+    public int[] execSCC(ForkJoinPool pool){
+        // Complexity: O(n+m) for the trim and the forward-backward step, O(m) per coloring round, split over the workers
+        int n = this.graph.getNbNodes();
+        this.inverse = this.graph.computeInverse();     // O(n+m)
+        int[] rep = new int[n];                         // representative of the component of v, -1 while not found
+        Arrays.fill(rep, -1);
+
+        this.nbTrimmed = this.trim(rep, pool);
+        int[] alive = aliveNodes(rep, null);
+
+        this.pivotComponentSize = 0;
+        if (alive.length > 0){
+            this.pivotComponentSize = this.forwardBackward(alive, rep, pool);
+            alive = aliveNodes(rep, alive);
+        }
+
+        this.nbColoringRounds = 0;
+        int[] color = new int[n];
+        while (alive.length > SEQUENTIAL_THRESHOLD){
+            this.coloringRound(alive, rep, color, pool);
+            this.nbColoringRounds++;
+            alive = aliveNodes(rep, alive);
+        }
+
+        if (alive.length > 0){
+            this.tarjanRest(alive, rep);
+        }
+
+        // ids in the order of the smallest labels     O(n)
+        int[] ids = new int[n];
+        Arrays.fill(ids, -1);
+        this.comp = new int[n];
+        this.nbComponents = 0;
+        for (int v = 0; v < n; v++){
+            if (ids[rep[v]] == -1){
+                ids[rep[v]] = this.nbComponents++;
+            }
+            this.comp[v] = ids[rep[v]];
+        }
+        return this.comp;
+    }
+
+    // ------------------------------------------------
+    // 					1. Trim
+    // ------------------------------------------------
+
+    /**
+     * Removes, as long as there are some, the nodes without live predecessor or without live successor
+     * @return the number of nodes removed
+     */
+    private int trim(int[] rep, ForkJoinPool pool){
+        int n = this.graph.getNbNodes();
+        int[] offsets = this.graph.getOffsets();
+        int[] targets = this.graph.getTargets();
+        int[] invOffsets = this.inverse.getOffsets();
+        int[] invTargets = this.inverse.getTargets();
+        int[] outLive = new int[n];     // number of successors not removed yet (loops excluded)
+        int[] inLive = new int[n];      // number of predecessors not removed yet (loops excluded)
+
+        // the counters and the first frontier
+        IntList frontier = new IntList();
+        forEachRange(pool, n, (from, to, out) -> {
+            for (int v = from; v < to; v++){
+                for (int a = offsets[v]; a < offsets[v + 1]; a++){
+                    if (targets[a] != v){
+                        outLive[v]++;
+                    }
+                }
+                for (int a = invOffsets[v]; a < invOffsets[v + 1]; a++){
+                    if (invTargets[a] != v){
+                        inLive[v]++;
+                    }
+                }
+                if (outLive[v] == 0 || inLive[v] == 0){
+                    out.add(v);
+                }
+            }
+        }, frontier);
+
+        // a node is claimed by the worker setting its representative; its neighbours whose counter drops to 0 go to the next frontier
+        while (frontier.size > 0){
+            int[] current = frontier.values;
+            IntList next = new IntList();
+            RangeBody body = (from, to, out) -> {
+                for (int k = from; k < to; k++){
+                    int v = current[k];
+                    if (!INT_ARRAY.compareAndSet(rep, v, -1, v)){
+                        continue;
+                    }
+                    for (int a = offsets[v]; a < offsets[v + 1]; a++){
+                        int w = targets[a];
+                        if (w != v && (int) INT_ARRAY.getAndAdd(inLive, w, -1) == 1){
+                            out.add(w);
+                        }
+                    }
+                    for (int a = invOffsets[v]; a < invOffsets[v + 1]; a++){
+                        int u = invTargets[a];
+                        if (u != v && (int) INT_ARRAY.getAndAdd(outLive, u, -1) == 1){
+                            out.add(u);
+                        }
+                    }
+                }
+            };
+            forEachRange(pool, frontier.size, body, next);
+            frontier = next;
+        }
+        int nbTrimmed = 0;
+        for (int v = 0; v < n; v++){
+            if (rep[v] == v){
+                nbTrimmed++;
+            }
+        }
+        return nbTrimmed;
+    }
+
+    // ------------------------------------------------
+    // 				2. Forward-backward
+    // ------------------------------------------------
+
+    /**
+     * Finds the component of the alive node with the largest product of degrees
+     * @return its size
+     */
+    private int forwardBackward(int[] alive, int[] rep, ForkJoinPool pool){
+        int[] offsets = this.graph.getOffsets();
+        int[] invOffsets = this.inverse.getOffsets();
+        int pivot = alive[0];
+        long best = -1;
+        for (int v : alive){
+            long score = (long) (offsets[v + 1] - offsets[v]) * (invOffsets[v + 1] - invOffsets[v]);
+            if (score > best){
+                best = score;
+                pivot = v;
+            }
+        }
+
+        int n = this.graph.getNbNodes();
+        int[] forward = new int[n];
+        int[] backward = new int[n];
+        reach(this.graph, pivot, rep, forward, pool);
+        reach(this.inverse, pivot, rep, backward, pool);
+        int size = 0;
+        for (int v : alive){
+            if (forward[v] == 1 && backward[v] == 1){
+                rep[v] = pivot;
+                size++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Parallel BFS from src over the nodes still without representative: reached[v] is set to 1 by the worker claiming v
+     */
+    private static void reach(CSRDirectedGraph graph, int src, int[] rep, int[] reached, ForkJoinPool pool){
+        // Complexity: O(n+m), one level at a time
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        reached[src] = 1;
+        IntList frontier = new IntList();
+        frontier.add(src);
+        while (frontier.size > 0){
+            int[] current = frontier.values;
+            IntList next = new IntList();
+            forEachRange(pool, frontier.size, (from, to, out) -> {
+                for (int k = from; k < to; k++){
+                    int v = current[k];
+                    for (int a = offsets[v]; a < offsets[v + 1]; a++){
+                        int w = targets[a];
+                        if (rep[w] == -1 && reached[w] == 0 && INT_ARRAY.compareAndSet(reached, w, 0, 1)){
+                            out.add(w);
+                        }
+                    }
+                }
+            }, next);
+            frontier = next;
+        }
+    }
+
+    // ------------------------------------------------
+    // 					3. Coloring
+    // ------------------------------------------------
+
+    /**
+     * One coloring round: at least the component of the largest alive label is found
+     */
+    private void coloringRound(int[] alive, int[] rep, int[] color, ForkJoinPool pool){
+        int[] offsets = this.graph.getOffsets();
+        int[] targets = this.graph.getTargets();
+        int[] invOffsets = this.inverse.getOffsets();
+        int[] invTargets = this.inverse.getTargets();
+        for (int v : alive){
+            color[v] = v;
+        }
+
+        // the largest label reaching each node, propagated along the arcs until nothing changes
+        boolean changed = true;
+        while (changed){
+            IntList changes = new IntList();
+            forEachRange(pool, alive.length, (from, to, out) -> {
+                boolean improved = false;
+                for (int k = from; k < to; k++){
+                    int v = alive[k];
+                    int cv = (int) INT_ARRAY.getVolatile(color, v);
+                    for (int a = offsets[v]; a < offsets[v + 1]; a++){
+                        int w = targets[a];
+                        if (rep[w] == -1 && atomicMax(color, w, cv)){
+                            improved = true;
+                        }
+                    }
+                }
+                if (improved){
+                    out.add(from);
+                }
+            }, changes);
+            changed = changes.size > 0;
+        }
+
+        // the nodes of color r reaching r (inside the color) make the component of r; the colors do not share nodes
+        forEachRange(pool, alive.length, (from, to, out) -> {
+            IntList stack = new IntList();
+            for (int k = from; k < to; k++){
+                int r = alive[k];
+                if (color[r] != r){
+                    continue;
+                }
+                rep[r] = r;
+                stack.add(r);
+                while (stack.size > 0){
+                    int x = stack.values[--stack.size];
+                    for (int a = invOffsets[x]; a < invOffsets[x + 1]; a++){
+                        int u = invTargets[a];
+                        if (color[u] == r && rep[u] == -1){
+                            rep[u] = r;
+                            stack.add(u);
+                        }
+                    }
+                }
+            }
+        }, null);
+    }
+
+    /**
+     * Replaces color[w] by c if c is larger, atomically
+     * @return true if it was replaced
+     */
+    private static boolean atomicMax(int[] color, int w, int c){
+        int old = (int) INT_ARRAY.getVolatile(color, w);
+        while (c > old){
+            if (INT_ARRAY.compareAndSet(color, w, old, c)){
+                return true;
+            }
+            old = (int) INT_ARRAY.getVolatile(color, w);
+        }
+        return false;
+    }
+
+    // ------------------------------------------------
+    // 					4. Tarjan
+    // ------------------------------------------------
+
+    /**
+     * Runs StronglyConnectedComponents on the graph induced by the alive nodes
+     */
+    private void tarjanRest(int[] alive, int[] rep){
+        int[] offsets = this.graph.getOffsets();
+        int[] targets = this.graph.getTargets();
+        int[] local = new int[this.graph.getNbNodes()];
+        Arrays.fill(local, -1);
+        for (int i = 0; i < alive.length; i++){
+            local[alive[i]] = i;
+        }
+        int[] subOffsets = new int[alive.length + 1];
+        IntList subTargets = new IntList();
+        for (int i = 0; i < alive.length; i++){
+            int v = alive[i];
+            for (int a = offsets[v]; a < offsets[v + 1]; a++){
+                if (local[targets[a]] != -1){
+                    subTargets.add(local[targets[a]]);
+                }
+            }
+            subOffsets[i + 1] = subTargets.size;
+        }
+        StronglyConnectedComponents scc = new StronglyConnectedComponents(new CSRDirectedGraph(subOffsets, subTargets.toArray(), null));
+        int[] subComp = scc.execSCC();
+        int[] first = new int[scc.getNbComponents()];
+        Arrays.fill(first, -1);
+        for (int i = 0; i < alive.length; i++){
+            if (first[subComp[i]] == -1){
+                first[subComp[i]] = alive[i];
+            }
+            rep[alive[i]] = first[subComp[i]];
+        }
+    }
+
+    // ------------------------------------------------
+    // 					Tools
+    // ------------------------------------------------
+
+    /**
+     * @return the nodes of candidates (all the nodes if null) still without representative
+     */
+    private static int[] aliveNodes(int[] rep, int[] candidates){
+        IntList alive = new IntList();
+        if (candidates == null){
+            for (int v = 0; v < rep.length; v++){
+                if (rep[v] == -1){
+                    alive.add(v);
+                }
+            }
+        } else {
+            for (int v : candidates){
+                if (rep[v] == -1){
+                    alive.add(v);
+                }
+            }
+        }
+        return alive.toArray();
+    }
+
+    /**
+     * Work on the indexes from ... to-1, writing to its own buffer
+     */
+    private interface RangeBody {
+        void run(int from, int to, IntList out);
+    }
+
+    /**
+     * Splits 0 ... size-1 into ranges run in parallel (by the calling thread below SEQUENTIAL_THRESHOLD),
+     * then appends the buffers of the ranges to out (if not null)
+     */
+    private static void forEachRange(ForkJoinPool pool, int size, RangeBody body, IntList out){
+        if (size < SEQUENTIAL_THRESHOLD){
+            body.run(0, size, out == null ? new IntList() : out);
+            return;
+        }
+        int nbTasks = Math.min(4 * pool.getParallelism(), size / (SEQUENTIAL_THRESHOLD / 4));
+        List<RecursiveAction> tasks = new ArrayList<>(nbTasks);
+        IntList[] buffers = new IntList[nbTasks];
+        for (int t = 0; t < nbTasks; t++){
+            int from = (int) ((long) size * t / nbTasks);
+            int to = (int) ((long) size * (t + 1) / nbTasks);
+            IntList buffer = new IntList();
+            buffers[t] = buffer;
+            tasks.add(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    body.run(from, to, buffer);
+                }
+            });
+        }
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                ForkJoinTask.invokeAll(tasks);
+            }
+        });
+        if (out != null){
+            for (IntList buffer : buffers){
+                out.addAll(buffer);
+            }
+        }
+    }
+
+    public int[] getComp() {
+        return this.comp;
+    }
+
+    public int getNbComponents() {
+        return this.nbComponents;
+    }
+
+    public static void main(String[] args) {
+        // graph G from the GraphExplorer example
+        ParallelStronglyConnectedComponents scc = new ParallelStronglyConnectedComponents(new GraphExplorer().getGraph());
+        scc.execSCC();
+        System.out.println("comp = " + Arrays.toString(scc.getComp()) + " (" + scc.getNbComponents() + " components)");
+
+        // a larger random graph, checked against Tarjan's algorithm
+        int[][] matrix = GraphTools.generateGraphData(3000, 4500, false, false, false, 100001);
+        CSRDirectedGraph graph = new CSRDirectedGraph(matrix);
+        ParallelStronglyConnectedComponents parallel = new ParallelStronglyConnectedComponents(graph);
+        parallel.execSCC();
+        StronglyConnectedComponents sequential = new StronglyConnectedComponents(graph);
+        sequential.execSCC();
+        System.out.println("\n" + graph.getNbNodes() + " nodes: " + parallel.getNbComponents() + " components ("
+                + sequential.getNbComponents() + " with Tarjan), " + parallel.nbTrimmed + " trimmed, "
+                + parallel.pivotComponentSize + " in the pivot's component, " + parallel.nbColoringRounds + " coloring rounds");
+    }
+}
@@ -2,6 +2,7 @@ package GraphAlgorithms;
 
 import AdjacencyList.UndirectedValuedGraph;
 import Collection.Triple;
+import Nodes.NeighbourMap;
 import Nodes.UndirectedNode;
 
 import java.util.*;
@@ -24,15 +25,21 @@ public class PrimAlgorithm {
 
     public int cost;
 
+    // results of the eager mode, indexed by label (parent is the root for the root, -1 if not reached)
+    public boolean[] visited;
+
+    public int[] parent;
+
     public PrimAlgorithm(UndirectedValuedGraph graph){
         this.heap = new BinaryHeapEdge();
         this.visitedNodes = new ArrayList<>();
         this.graph = graph;
-        this.minSpanningTree = new UndirectedValuedGraph(new int[this.graph.getNbNodes()][this.graph.getNbNodes()]);
         this.cost = 0;
     }
 
     public void execPrimAlgorithm(UndirectedNode entryPointNode){
+        // empty tree over the nodes of the graph   O(n)
+        this.minSpanningTree = new UndirectedValuedGraph(this.graph.getNbNodes());
 
         // init the algorithm   O(1)
         UndirectedNode visitingNode = entryPointNode;
@@ -90,6 +97,62 @@ public class PrimAlgorithm {
         }
     }
 
+    /**
+     * Eager mode: the heap holds at most one entry per node out of the tree, keyed by the lightest edge
+     * linking it to the tree, and lowered (decrease-key) when a lighter edge shows up.
+     * Fills visited, parent, minSpanningTree and cost; only the component of entryPointNode is spanned.
+     */
+    public void execPrimEager(UndirectedNode entryPointNode){
+        // Complexity: O((n+m)*log_2(n))
+        int n = this.graph.getNbNodes();
+        this.visited = new boolean[n];
+        this.parent = new int[n];
+        Arrays.fill(this.parent, -1);
+        int[] lightest = new int[n];    // lightest[v] = weight of the edge (parent[v],v), while v is in the heap
+        IndexedBinaryHeap frontier = new IndexedBinaryHeap(n);
+        this.minSpanningTree = new UndirectedValuedGraph(n);
+        this.cost = 0;
+
+        int root = entryPointNode.getLabel();
+        this.parent[root] = root;
+        frontier.insert(root, 0);
+        while (!frontier.isEmpty()){
+            // the closest node joins the tree   O(log_2(n))
+            int x = frontier.removeMin();
+            this.visited[x] = true;
+            if (x != root){
+                this.cost += lightest[x];
+                this.minSpanningTree.addEdge(new UndirectedNode(this.parent[x]), new UndirectedNode(x), lightest[x]);
+            }
+            // its edges may bring nodes out of the tree closer   O(d(x)*log_2(n))
+            NeighbourMap<UndirectedNode> neighbours = this.graph.getNodes().get(x).getNeighbours();
+            for (int i = 0; i < neighbours.size(); i++){
+                int y = neighbours.labelAt(i);
+                int weight = neighbours.valueAt(i);
+                if (this.visited[y]){
+                    continue;
+                }
+                if (!frontier.contains(y)){
+                    this.parent[y] = x;
+                    lightest[y] = weight;
+                    frontier.insert(y, weight);
+                } else if (weight < lightest[y]){
+                    this.parent[y] = x;
+                    lightest[y] = weight;
+                    frontier.decreaseKey(y, weight);
+                }
+            }
+        }
+    }
+
+    public boolean[] getVisited() {
+        return this.visited;
+    }
+
+    public int[] getParent() {
+        return this.parent;
+    }
+
     public int getCost() {
         return this.cost;
     }
@@ -124,6 +187,12 @@ public class PrimAlgorithm {
         System.out.println("cost = " + cost);
         System.out.println("resulting minimum spanning tree:\n" + primInstance.getMinSpanningTree());
 
+        // same graph with the eager mode
+        PrimAlgorithm eagerInstance = new PrimAlgorithm(graph);
+        eagerInstance.execPrimEager(new UndirectedNode(E));
+        System.out.println("eager mode: cost = " + eagerInstance.getCost());
+        System.out.println("parent = " + Arrays.toString(eagerInstance.getParent()));
+
 
     }
 }
@@ -0,0 +1,114 @@
+package GraphAlgorithms;
+
+/**
+ * Radix heap: a monotone priority queue for non-negative int keys with 33 buckets.
+ * Bucket 0 holds the keys equal to the last key removed (last), and bucket b > 0 holds the keys
+ * whose highest bit differing from last is bit b-1. When bucket 0 is empty, the first non-empty
+ * bucket is emptied into the lower ones around its smallest key: every label moves down,
+ * so it is moved at most 32 times between its insertion and its removal.
+ * Unlike BucketQueue, the number of buckets does not depend on the costs.
+ */
+public class RadixHeap extends AbstractBucketQueue {
+
+    private static final int NB_BUCKETS = Integer.SIZE + 1;
+
+    private int last;   // the last key removed, every key in the queue is >= last
+
+    /**
+     * @param capacity the number of labels (labels are 0 ... capacity-1)
+     */
+    public RadixHeap(int capacity) {
+        super(capacity, NB_BUCKETS);
+        this.last = 0;
+    }
+
+    private int bucketOf(int key) {
+        return key == this.last ? 0 : Integer.SIZE - Integer.numberOfLeadingZeros(key ^ this.last);
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        this.last = 0;
+    }
+
+    /**
+     * Inserts label with the given key (key >= the last key removed), label must not be in the queue
+     * @implNote Complexity: O(1)
+     */
+    @Override
+    public void insert(int label, int key) {
+        this.keys[label] = key;
+        this.link(label, this.bucketOf(key));
+        this.size++;
+    }
+
+    /**
+     * Lowers the key of label (down to the last key removed at most), which must be in the queue
+     * @implNote Complexity: O(1)
+     */
+    @Override
+    public void decreaseKey(int label, int key) {
+        this.unlink(label);
+        this.keys[label] = key;
+        this.link(label, this.bucketOf(key));
+    }
+
+    /**
+     * Removes a label with the smallest key
+     * @return that label
+     * @implNote Complexity: O(log_2(max key)) amortized
+     */
+    @Override
+    public int removeMin() {
+        if (this.heads[0] == -1) {
+            int b = 1;
+            while (this.heads[b] == -1) {
+                b++;
+            }
+            // the smallest key of bucket b becomes last
+            int min = Integer.MAX_VALUE;
+            for (int label = this.heads[b]; label != -1; label = this.next[label]) {
+                min = Math.min(min, this.keys[label]);
+            }
+            this.last = min;
+            // redistribute bucket b: the labels now share more high bits with last, they go to lower buckets
+            int label = this.heads[b];
+            this.heads[b] = -1;
+            while (label != -1) {
+                int following = this.next[label];
+                this.link(label, this.bucketOf(this.keys[label]));
+                label = following;
+            }
+        }
+        int min = this.heads[0];
+        this.unlink(min);
+        this.size--;
+        return min;
+    }
+
+    public static void main(String[] args) {
+        int k = 20;
+        int max = 1000;
+        RadixHeap heap = new RadixHeap(k);
+        System.out.println("is it empty: " + heap.isEmpty() + "\n");
+
+        for (int label = 0; label < k; label++) {
+            int rand = (int) (Math.random() * (max + 1));
+            System.out.print("insert " + label + "(" + rand + ")  ");
+            heap.insert(label, rand);
+        }
+        System.out.println("\n" + heap);
+
+        System.out.println("\n--- decrease key of " + (k - 1) + " to 0 ---");
+        heap.decreaseKey(k - 1, 0);
+        System.out.println(heap);
+
+        System.out.println("\n--- Remove all labels in order ---");
+        while (!heap.isEmpty()) {
+            int label = heap.removeMin();
+            System.out.print(label + "(" + heap.getKey(label) + ") ");
+        }
+        System.out.println();
+    }
+}
@@ -0,0 +1,16 @@
+package GraphAlgorithms;
+
+/**
+ * Callback receiving the result of one single source shortest path run
+ */
+@FunctionalInterface
+public interface ShortestPathConsumer {
+
+    /**
+     * The arrays are the buffers of the worker: they are only valid during the call, copy what must be kept.
+     * @param src the label of the source
+     * @param dist the distances from src, Integer.MAX_VALUE if unreachable
+     * @param pred the predecessors on the shortest paths, src for src and -1 if unreachable
+     */
+    void accept(int src, int[] dist, int[] pred);
+}
@@ -0,0 +1,203 @@
+package GraphAlgorithms;
+
+import Abstraction.IDirectedGraph;
+import CompressedSparseRow.CSRDirectedGraph;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Strongly connected components in linear time, with Pearce's variant of Tarjan's algorithm, without recursion.
+ * A single int[] rindex holds the visit index of the nodes being explored (the lowlink of Tarjan is folded into it)
+ * and, once a component is complete, its id; a boolean[] tells the roots. The recursion is replaced by a call stack
+ * of nodes with a cursor on their next arc, so deep graphs do not overflow the stack and the memory stays O(n).
+ * The components are numbered in topological order of the condensation: an arc between two components
+ * always goes from a smaller id to a larger one.
+ */
+public class StronglyConnectedComponents {
+
+    public CSRDirectedGraph graph;
+
+    // comp[v] is the id of the component of v, from 0 to nbComponents-1
+    public int[] comp;
+
+    public int nbComponents;
+
+    // one node per component, an arc (c,d) if some arc goes from component c to component d (no duplicate)
+    public CSRDirectedGraph condensation;
+
+    public StronglyConnectedComponents(IDirectedGraph graph){
+        this.graph = graph instanceof CSRDirectedGraph ? (CSRDirectedGraph) graph : new CSRDirectedGraph(graph, false);   // O(n+m)
+    }
+
+    /**
+     * @return comp, the component id of each node
+     */
+    public int[] execSCC(){
+        // Complexity: O(n+m), each arc is followed once
+        int n = this.graph.getNbNodes();
+        int[] offsets = this.graph.getOffsets();
+        int[] targets = this.graph.getTargets();
+        int[] rindex = new int[n];          // 0: not visited yet
+        boolean[] root = new boolean[n];
+        int[] cursor = new int[n];          // next arc of each node on the call stack
+        int[] callStack = new int[n];
+        int[] stack = new int[n];           // visited nodes whose component is not complete
+        int callSize = 0;
+        int stackSize = 0;
+        int index = 1;
+        int c = n - 1;                      // next component id, counting down so that it stays above the indexes
+
+        for (int start = 0; start < n; start++){
+            if (rindex[start] != 0){
+                continue;
+            }
+            // begin the visit of start
+            rindex[start] = index++;
+            root[start] = true;
+            cursor[start] = offsets[start];
+            callStack[callSize++] = start;
+
+            while (callSize > 0){
+                int v = callStack[callSize - 1];
+                if (cursor[v] < offsets[v + 1]){
+                    int w = targets[cursor[v]];
+                    if (rindex[w] == 0){
+                        // "recursive call" on w, the arc (v,w) is finished when w is done
+                        rindex[w] = index++;
+                        root[w] = true;
+                        cursor[w] = offsets[w];
+                        callStack[callSize++] = w;
+                        continue;
+                    }
+                    // finish the arc (v,w): a complete component has an id above every index, so it is ignored
+                    if (rindex[w] < rindex[v]){
+                        rindex[v] = rindex[w];
+                        root[v] = false;
+                    }
+                    cursor[v]++;
+                    continue;
+                }
+
+                // end of the visit of v
+                callSize--;
+                if (root[v]){
+                    // v and the nodes above it with a larger index make a component
+                    index--;
+                    while (stackSize > 0 && rindex[v] <= rindex[stack[stackSize - 1]]){
+                        int w = stack[--stackSize];
+                        rindex[w] = c;
+                        index--;
+                    }
+                    rindex[v] = c;
+                    c--;
+                } else {
+                    stack[stackSize++] = v;
+                }
+            }
+        }
+
+        // ids from c+1 ... n-1, the first complete component (a sink) having the largest: shift them to 0 ... nbComponents-1
+        this.nbComponents = n - 1 - c;
+        for (int v = 0; v < n; v++){
+            rindex[v] -= c + 1;
+        }
+        this.comp = rindex;
+        this.condensation = buildCondensation(this.graph, this.comp, this.nbComponents);
+        return this.comp;
+    }
+
+    /**
+     * @return the graph of the components, without loops nor duplicated arcs
+     */
+    static CSRDirectedGraph buildCondensation(CSRDirectedGraph graph, int[] comp, int nbComponents){
+        // Complexity: O(n+m)
+        int n = graph.getNbNodes();
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+
+        // nodes grouped by component (counting sort)
+        int[] first = new int[nbComponents + 1];
+        for (int v = 0; v < n; v++){
+            first[comp[v] + 1]++;
+        }
+        for (int k = 0; k < nbComponents; k++){
+            first[k + 1] += first[k];
+        }
+        int[] members = new int[n];
+        int[] next = Arrays.copyOf(first, nbComponents);
+        for (int v = 0; v < n; v++){
+            members[next[comp[v]]++] = v;
+        }
+
+        // arcs of each component, marked with its id to skip the duplicates
+        int[] dagOffsets = new int[nbComponents + 1];
+        int[] dagTargets = new int[Math.max(1, graph.getNbArcs())];
+        int[] mark = new int[nbComponents];
+        Arrays.fill(mark, -1);
+        int size = 0;
+        for (int k = 0; k < nbComponents; k++){
+            for (int i = first[k]; i < first[k + 1]; i++){
+                int v = members[i];
+                for (int a = offsets[v]; a < offsets[v + 1]; a++){
+                    int d = comp[targets[a]];
+                    if (d != k && mark[d] != k){
+                        mark[d] = k;
+                        dagTargets[size++] = d;
+                    }
+                }
+            }
+            dagOffsets[k + 1] = size;
+        }
+        return new CSRDirectedGraph(dagOffsets, Arrays.copyOf(dagTargets, size), null);
+    }
+
+    public int[] getComp() {
+        return this.comp;
+    }
+
+    public int getNbComponents() {
+        return this.nbComponents;
+    }
+
+    public CSRDirectedGraph getCondensation() {
+        return this.condensation;
+    }
+
+    /**
+     * @return the labels of the nodes of each component
+     */
+    public int[][] getComponents(){
+        int[][] components = new int[this.nbComponents][];
+        int[] sizes = new int[this.nbComponents];
+        for (int c : this.comp){
+            sizes[c]++;
+        }
+        for (int k = 0; k < this.nbComponents; k++){
+            components[k] = new int[sizes[k]];
+            sizes[k] = 0;
+        }
+        for (int v = 0; v < this.comp.length; v++){
+            components[this.comp[v]][sizes[this.comp[v]]++] = v;
+        }
+        return components;
+    }
+
+    public static void main(String[] args) {
+        // graph G from the GraphExplorer example
+        StronglyConnectedComponents scc = new StronglyConnectedComponents(new GraphExplorer().getGraph());
+        scc.execSCC();
+
+        List<String> names = List.of("A","B","C","D","E","F","G","H");
+        System.out.println("comp = " + Arrays.toString(scc.getComp()));
+        System.out.println("\nComposantes fortement connexes du graphe G (" + scc.getNbComponents() + ") : ");
+        for (int[] component : scc.getComponents()){
+            StringBuilder s = new StringBuilder("[");
+            for (int v : component){
+                s.append(s.length() > 1 ? ", " : "").append(names.get(v));
+            }
+            System.out.println(s.append("]"));
+        }
+        System.out.println("\nGraphe des composantes :\n" + scc.getCondensation());
+    }
+}
@@ -40,6 +40,29 @@ public abstract class ExplorationStrategy<T extends AbstractNode> {
     }
     public abstract List<List<T>> apply(T node, Set<T> visited);
 
+    /**
+     * Parcourt le graphe depuis {@code node} en appelant {@code visitor} au fil de l'eau, sans construire de chemin :
+     * la mémoire utilisée en plus est en O(n). {@code firstEncounter} et {@code lastEncounter} reçoivent les instants
+     * de découverte et de fin des sommets.
+     * @param node Le sommet de départ
+     * @param visited La liste de tout les sommets visités, mise à jour par le parcours
+     * @param visitor Le visiteur à appeler
+     * @return faux si le visiteur a arrêté le parcours, vrai s'il est allé jusqu'au bout
+     */
+    public abstract boolean traverse(T node, Set<T> visited, TraversalVisitor<T> visitor);
+
+    /**
+     * Marque un sommet comme découvert et prévient le visiteur
+     * @return faux si le visiteur demande l'arrêt
+     */
+    protected boolean discover(T node, Set<T> visited, TraversalVisitor<T> visitor) {
+        visited.add(node);
+        firstEncounter[node.getLabel()] = count;
+        count++;
+        visitor.discoverVertex(node);
+        return !visitor.stop();
+    }
+
     public int[] getFirstEncounter() {
         return firstEncounter;
     }
@@ -0,0 +1,40 @@
+package GraphAlgorithms.strategies;
+
+import Nodes.AbstractNode;
+
+/**
+ * Visiteur appelé au fil d'un parcours (voir {@link ExplorationStrategy#traverse}), sans construire la liste des chemins.
+ * Toutes les méthodes ont une implémentation vide par défaut : il suffit de redéfinir celles dont on a besoin.
+ * @param <T> le type de sommets parcourus
+ */
+public interface TraversalVisitor<T extends AbstractNode> {
+    /**
+     * Appelée quand un sommet est atteint pour la première fois
+     * @param node Le sommet découvert
+     */
+    default void discoverVertex(T node) {
+    }
+
+    /**
+     * Appelée pour chaque arc examiné, que son extrémité soit déjà visitée ou non
+     * @param from Le sommet en cours de visite
+     * @param to Le voisin examiné
+     */
+    default void examineEdge(T from, T to) {
+    }
+
+    /**
+     * Appelée quand tous les voisins d'un sommet ont été examinés
+     * @param node Le sommet terminé
+     */
+    default void finishVertex(T node) {
+    }
+
+    /**
+     * Consultée après chaque appel : le parcours s'arrête dès qu'elle renvoie vrai (par exemple quand la cible est trouvée)
+     * @return vrai pour arrêter le parcours
+     */
+    default boolean stop() {
+        return false;
+    }
+}
@@ -1,6 +1,7 @@
 package GraphAlgorithms.strategies.impl;
 
 import GraphAlgorithms.strategies.ExplorationStrategy;
+import GraphAlgorithms.strategies.TraversalVisitor;
 import Nodes.AbstractNode;
 
 import java.util.*;
@@ -47,6 +48,41 @@ public class StrategyBFS<T extends AbstractNode> extends ExplorationStrategy<T>
         return allPaths;
     }
 
+    /**
+     * Parcours en largeur qui pilote le visiteur : un sommet est découvert quand il entre dans la file,
+     * et terminé quand tous ses voisins ont été examinés. La file ne contient que des sommets (pas de chemins).
+     */
+    @Override
+    public boolean traverse(T node, Set<T> visited, TraversalVisitor<T> visitor) {
+        Queue<T> queue = new ArrayDeque<>();
+        if (!discover(node, visited, visitor)) {
+            return false;
+        }
+        queue.add(node);
+        while (!queue.isEmpty()) {
+            T current = queue.poll();
+            for (T child : childExtractor.apply(current)) {
+                visitor.examineEdge(current, child);
+                if (visitor.stop()) {
+                    return false;
+                }
+                if (!visited.contains(child)) {
+                    if (!discover(child, visited, visitor)) {
+                        return false;
+                    }
+                    queue.add(child);
+                }
+            }
+            lastEncounter[current.getLabel()] = count;
+            count++;
+            visitor.finishVertex(current);
+            if (visitor.stop()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Définie un sommet comme étant entièrement parcouru, et vérifie si son parent devient entièrement parcouru (càd {@code node} est le dernier enfant parcouru de son parent
      * @param node La node entièrement parcourue
@@ -1,9 +1,14 @@
 package GraphAlgorithms.strategies.impl;
 
+import CompressedSparseRow.CSRDirectedGraph;
 import GraphAlgorithms.strategies.ExplorationStrategy;
+import GraphAlgorithms.strategies.TraversalVisitor;
 import Nodes.AbstractNode;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Function;
@@ -13,6 +18,15 @@ import java.util.function.Function;
  * @param <T> le type de sommets parcourus
  */
 public class StrategyDFS<T extends AbstractNode> extends ExplorationStrategy<T> {
+    /**
+     * La pile du parcours itératif (les sommets en cours de visite)
+     */
+    private int[] stack;
+    /**
+     * Pour chaque sommet de la pile, l'indice du prochain arc à examiner
+     */
+    private int[] cursor;
+
     public StrategyDFS(int size, Function<T, Set<T>> childExtractor) {
         super(size, childExtractor);
     }
@@ -40,4 +54,108 @@ public class StrategyDFS<T extends AbstractNode> extends ExplorationStrategy<T>
         }
         return paths;
     }
+
+    /**
+     * Parcours en profondeur qui pilote le visiteur, avec une pile d'itérateurs sur les voisins (pas de récursion).
+     * {@code firstEncounter} et {@code lastEncounter} sont remplis comme par {@link #apply}.
+     */
+    @Override
+    public boolean traverse(T node, Set<T> visited, TraversalVisitor<T> visitor) {
+        Deque<T> nodes = new ArrayDeque<>();
+        Deque<Iterator<T>> neighbours = new ArrayDeque<>();
+        if (!discover(node, visited, visitor)) {
+            return false;
+        }
+        nodes.push(node);
+        neighbours.push(childExtractor.apply(node).iterator());
+        while (!nodes.isEmpty()) {
+            T current = nodes.peek();
+            Iterator<T> it = neighbours.peek();
+            if (it.hasNext()) {
+                T voisin = it.next();
+                visitor.examineEdge(current, voisin);
+                if (visitor.stop()) {
+                    return false;
+                }
+                if (!visited.contains(voisin)) {
+                    if (!discover(voisin, visited, visitor)) {
+                        return false;
+                    }
+                    nodes.push(voisin);
+                    neighbours.push(childExtractor.apply(voisin).iterator());
+                }
+            } else {
+                nodes.pop();
+                neighbours.pop();
+                lastEncounter[current.getLabel()] = count;
+                count++;
+                visitor.finishVertex(current);
+                if (visitor.stop()) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parcours en profondeur itératif de tout le graphe, en partant des sommets dans l'ordre de leurs labels
+     * (comme {@code GraphExplorer.explorerGraphe} sur la liste des sommets).
+     * @param graph Le graphe, dont les arcs sont dans le même ordre que ceux de {@code childExtractor}
+     */
+    public void applyIterative(CSRDirectedGraph graph) {
+        boolean[] visited = new boolean[graph.getNbNodes()];
+        for (int node = 0; node < graph.getNbNodes(); node++) {
+            if (!visited[node]) {
+                applyIterative(graph, node, visited);
+            }
+        }
+    }
+
+    /**
+     * Parcours en profondeur itératif depuis {@code node} : remplit {@code firstEncounter} et {@code lastEncounter}
+     * exactement comme {@link #apply}, mais avec une pile d'entiers et un curseur par sommet sur ses arcs.
+     * Aucune récursion (pas de StackOverflowError sur les longues chaînes) et aucune allocation par sommet visité.
+     * @param graph Le graphe, dont les arcs sont dans le même ordre que ceux de {@code childExtractor}
+     * @param node Le sommet de départ
+     * @param visited Les sommets déjà visités, mis à jour par le parcours
+     */
+    public void applyIterative(CSRDirectedGraph graph, int node, boolean[] visited) {
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        if (stack == null || stack.length < graph.getNbNodes()) {
+            stack = new int[graph.getNbNodes()];
+            cursor = new int[graph.getNbNodes()];
+        }
+        int size = 0;
+        visited[node] = true;
+        firstEncounter[node] = count;
+        count++;
+        stack[size] = node;
+        cursor[size] = offsets[node];
+        size++;
+        while (size > 0) {
+            int current = stack[size - 1];
+            int a = cursor[size - 1];
+            // prochain voisin non visité
+            while (a < offsets[current + 1] && visited[targets[a]]) {
+                a++;
+            }
+            if (a < offsets[current + 1]) {
+                int voisin = targets[a];
+                cursor[size - 1] = a + 1;
+                visited[voisin] = true;
+                firstEncounter[voisin] = count;
+                count++;
+                stack[size] = voisin;
+                cursor[size] = offsets[voisin];
+                size++;
+            } else {
+                // tous les voisins sont visités
+                lastEncounter[current] = count;
+                count++;
+                size--;
+            }
+        }
+    }
 }
@@ -2,37 +2,196 @@ package IncidentMatrix;
 
 import Abstraction.AbstractIncidentGraph;
 import Abstraction.IUndirectedGraph;
+import Abstraction.IntIntIntConsumer;
+import GraphAlgorithms.GraphTools;
 import Nodes.UndirectedNode;
 
-public class IncidentMatrixUndirectedGraph extends AbstractIncidentGraph implements IUndirectedGraph {
+import java.util.ArrayList;
+import java.util.List;
 
-    @Override
-    public int getNbNodes() {
-        return 0;
+/**
+ * This class represents the undirected graphs structured by a (compressed) incidence matrix.
+ * Each edge has a stable id, so it is possible to have simple and multiple graph.
+ */
+public class IncidentMatrixUndirectedGraph extends AbstractIncidentGraph<UndirectedNode> implements IUndirectedGraph {
+
+    //--------------------------------------------------
+    // 				Constructors
+    //--------------------------------------------------
+
+    public IncidentMatrixUndirectedGraph() {
+        super();
     }
 
-    @Override
-    public int[][] toAdjacencyMatrix() {
-        return new int[0][];
+    /**
+     * @param order the number of nodes of the graph, which has no edge yet
+     */
+    public IncidentMatrixUndirectedGraph(int order) {
+        super(order);
+    }
+
+    /**
+     * @param mat an adjacency matrix, only its upper triangle is read. A value k adds k parallel edges.
+     */
+    public IncidentMatrixUndirectedGraph(int[][] mat) {
+        super(mat.length);
+        for (int i = 0; i < this.order; i++) {
+            for (int j = i; j < this.order; j++) {
+                for (int k = 0; k < mat[i][j]; k++) {
+                    this.insertEdge(i, j);
+                }
+            }
+        }
+    }
+
+    public IncidentMatrixUndirectedGraph(IUndirectedGraph g) {
+        super(g.getNbNodes());
+        g.forEachArc((x, y, cost) -> {
+            // each edge is reported from both ends, it is added from its smallest end
+            if (x <= y) {
+                this.insertEdge(x, y);
+            }
+        });
     }
 
+    // ------------------------------------------
+    // 				Accessors
+    // ------------------------------------------
+
     @Override
     public int getNbEdges() {
-        return 0;
+        return this.m;
     }
 
+    @Override
+    public int getDegree(int x) {
+        return this.degrees[x];
+    }
+
+    /**
+     * @return the labels of the neighbours of x (once per incident edge)
+     */
+    public List<Integer> getNeighbours(UndirectedNode x) {
+        List<Integer> l = new ArrayList<>();
+        int label = x.getLabel();
+        for (int k = 0; k < this.degrees[label]; k++) {
+            l.add(this.getOppositeEnd(this.incidences[label][k], label));
+        }
+        return l;
+    }
+
+    // ------------------------------------------------
+    // 					Methods
+    // ------------------------------------------------
+
+    /**
+     * @return true if there is an edge between x and y. Complexity: O(min(d(x),d(y)))
+     */
     @Override
     public boolean isEdge(UndirectedNode x, UndirectedNode y) {
-        return false;
+        return this.findEdge(x.getLabel(), y.getLabel()) != -1;
+    }
+
+    /**
+     * @return the id of an edge between x and y, or -1 if there is none
+     */
+    public int getEdgeId(UndirectedNode x, UndirectedNode y) {
+        return this.findEdge(x.getLabel(), y.getLabel());
     }
 
+    /**
+     * removes one edge (x,y) if there exists at least one between these nodes in the graph.
+     */
     @Override
     public void removeEdge(UndirectedNode x, UndirectedNode y) {
+        this.deleteEdge(this.findEdge(x.getLabel(), y.getLabel()));
+    }
 
+    /**
+     * removes the edge of id e, if it is still in the graph. The other ids are unchanged.
+     */
+    public void removeEdge(int e) {
+        this.deleteEdge(e);
     }
 
+    /**
+     * adds the edge (x,y), we allow the multi-graph.
+     */
     @Override
     public void addEdge(UndirectedNode x, UndirectedNode y) {
+        this.insertEdge(x.getLabel(), y.getLabel());
+    }
+
+    /**
+     * adds the edge (x,y), we allow the multi-graph.
+     * @return the id of the new edge
+     */
+    public int addEdgeId(UndirectedNode x, UndirectedNode y) {
+        return this.insertEdge(x.getLabel(), y.getLabel());
+    }
+
+    /**
+     * @return the adjacency matrix representation int[][] of the graph, cells count parallel edges
+     */
+    @Override
+    public int[][] toAdjacencyMatrix() {
+        int[][] matrix = new int[this.order][this.order];
+        for (int e = 0; e < this.nbEdgeIds; e++) {
+            int x = this.firstEnds[e];
+            if (x != -1) {
+                int y = this.secondEnds[e];
+                matrix[x][y]++;
+                if (x != y) {
+                    matrix[y][x]++;
+                }
+            }
+        }
+        return matrix;
+    }
+
+    @Override
+    public void forEachArcFrom(int x, IntIntIntConsumer consumer) {
+        for (int k = 0; k < this.degrees[x]; k++) {
+            consumer.accept(x, this.getOppositeEnd(this.incidences[x][k], x), 0);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder s = new StringBuilder("Incidence lists: \n");
+        for (int e = 0; e < this.nbEdgeIds; e++) {
+            if (this.firstEnds[e] != -1) {
+                s.append("edge-").append(e).append(" : (node-").append(this.firstEnds[e])
+                        .append(",node-").append(this.secondEnds[e]).append(")\n");
+            }
+        }
+        s.append("\n");
+        return s.toString();
+    }
+
+    public static void main(String[] args) {
+        int[][] mat = GraphTools.generateGraphData(10, 20, false, true, false, 100001);
+        IncidentMatrixUndirectedGraph im = new IncidentMatrixUndirectedGraph(mat);
+        System.out.println(im);
+        GraphTools.afficherMatrix(im.toAdjacencyMatrix());
+
+        /* Edge testing: (2,5) (or (5,2)) */
+        System.out.println("\n isEdge((2,5)): " + im.isEdge(new UndirectedNode(2), new UndirectedNode(5)));
+
+        /* Get `2`'s neighbours */
+        System.out.println("N = " + im.getNbNodes() + "\n M = " + im.getNbEdges());
+        for (Integer integer : im.getNeighbours(new UndirectedNode(2))) {
+            System.out.print(integer + ", ");
+        }
+
+        /* Adding twice the edge (2,5): ids are given in order */
+        int e1 = im.addEdgeId(new UndirectedNode(2), new UndirectedNode(5));
+        int e2 = im.addEdgeId(new UndirectedNode(2), new UndirectedNode(5));
+        System.out.println("\n\nids of the new edges: " + e1 + ", " + e2);
 
+        /* Removing the first one by id: the second one keeps its id */
+        im.removeEdge(e1);
+        System.out.println("edge " + e2 + " is still (node-" + im.getFirstEnd(e2) + ",node-" + im.getSecondEnd(e2) + ")");
+        System.out.println("M = " + im.getNbEdges());
     }
 }
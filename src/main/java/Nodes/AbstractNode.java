@@ -59,6 +59,14 @@ public abstract class AbstractNode {
 		return n instanceof AbstractNode && ((AbstractNode) n).getLabel() == this.getLabel();
 	}
 
+	/**
+	 * consistent with equals: the label is the key
+	 * @return the hash code of the label
+	 */
+	public int hashCode() {
+		return Integer.hashCode(label);
+	}
+
 	public String toString() {
 		String s = "node-"+label;
 		if(weight>0) {
@@ -1,6 +1,5 @@
 package Nodes;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 public class DirectedNode extends AbstractNode {
@@ -9,8 +8,8 @@ public class DirectedNode extends AbstractNode {
     // 				Class variables
     //--------------------------------------------------
 
-    private Map<DirectedNode, Integer> succs;
-    private Map<DirectedNode, Integer> preds;
+    private NeighbourMap<DirectedNode> succs;
+    private NeighbourMap<DirectedNode> preds;
 
     //--------------------------------------------------
     // 				Constructors
@@ -18,14 +17,14 @@ public class DirectedNode extends AbstractNode {
 
     public DirectedNode(int i) {
         super(i);
-        this.succs = new LinkedHashMap<>();
-        this.preds = new LinkedHashMap<>();
+        this.succs = new NeighbourMap<>();
+        this.preds = new NeighbourMap<>();
     }
     
     public DirectedNode(int i, int p) {
         super(i,p);
-        this.succs = new LinkedHashMap<>();
-        this.preds = new LinkedHashMap<>();
+        this.succs = new NeighbourMap<>();
+        this.preds = new NeighbourMap<>();
     }
 
     // ------------------------------------------
@@ -33,16 +32,16 @@ public class DirectedNode extends AbstractNode {
     // ------------------------------------------
 
     /**
-     * @return the list of successors of the current node this
+     * @return the list of successors of the current node this, keyed by label
      */
-    public Map<DirectedNode, Integer> getSuccs() {
+    public NeighbourMap<DirectedNode> getSuccs() {
         return this.succs;
     }
 
     /**
-     * @return the list of predecessors of the current node this
+     * @return the list of predecessors of the current node this, keyed by label
      */
-    public Map<DirectedNode, Integer> getPreds() {
+    public NeighbourMap<DirectedNode> getPreds() {
         return preds;
     }
 
@@ -64,28 +63,28 @@ public class DirectedNode extends AbstractNode {
      * @param suc the new list of successors for node this
      */
     public void setSuccs(Map<DirectedNode, Integer> suc) {
-        this.succs = suc;
+        this.succs = suc instanceof NeighbourMap ? (NeighbourMap<DirectedNode>) suc : new NeighbourMap<>(suc);
     }
 
     /**
      * @param pre the new list of predecessors for nodes this
      */
     public void setPreds(Map<DirectedNode, Integer> pre) {
-        this.preds = pre;
+        this.preds = pre instanceof NeighbourMap ? (NeighbourMap<DirectedNode>) pre : new NeighbourMap<>(pre);
     }
 
     /**
 	 * add a new successor with its value cost. If the successor exists, the weight is changed.
 	 */
 	public void addSucc(DirectedNode v,int val) {
-		this.succs.put(v, val);
+		this.succs.insert(v, val);
 	}
    
 	/**
 	 * add a new predecessor with its value cost. If the predecessor exists, the weight is changed.
 	 */
 	public void addPred(DirectedNode v,int val) {
-		this.preds.put(v, val);
+		this.preds.insert(v, val);
 	}
 
 }
@@ -0,0 +1,398 @@
+package Nodes;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Adjacency store of a node: maps the label of a neighbour to the value (cost) of the link.
+ * Entries are kept in dense int arrays (labels, values) indexed by an open-addressing table with
+ * linear probing, so lookups hash an int instead of a node object and values are never boxed.
+ * Removal moves the last entry into the freed slot, so the iteration order is the insertion order
+ * until the first removal.
+ * It is still usable as a {@code Map<N,Integer>} (compatibility view over the same data).
+ * @param <N> the type of neighbour nodes
+ */
+public class NeighbourMap<N extends AbstractNode> extends AbstractMap<N, Integer> {
+
+    //--------------------------------------------------
+    // 				Class variables
+    //--------------------------------------------------
+
+    private static final int[] EMPTY_INTS = new int[0];
+    private static final Object[] EMPTY_NODES = new Object[0];
+
+    private int size;
+    private int[] labels;   // labels[i] is the label of the i-th neighbour
+    private int[] values;   // values[i] is the value of the link with the i-th neighbour
+    private Object[] nodes; // nodes[i] is the i-th neighbour itself
+    private int[] index;    // open-addressing table: position+1 in the dense arrays, 0 for an empty slot
+    private int modCount;
+
+    //--------------------------------------------------
+    // 				Constructors
+    //--------------------------------------------------
+
+    public NeighbourMap() {
+        this.labels = EMPTY_INTS;
+        this.values = EMPTY_INTS;
+        this.nodes = EMPTY_NODES;
+        this.index = EMPTY_INTS;
+        this.size = 0;
+    }
+
+    public NeighbourMap(Map<? extends N, Integer> map) {
+        this();
+        for (Map.Entry<? extends N, Integer> e : map.entrySet()) {
+            this.insert(e.getKey(), e.getValue());
+        }
+    }
+
+    // ------------------------------------------
+    // 				Accessors
+    // ------------------------------------------
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * @return the label of the i-th neighbour, 0 <= i < size()
+     */
+    public int labelAt(int i) {
+        return this.labels[i];
+    }
+
+    /**
+     * @return the value of the link with the i-th neighbour, 0 <= i < size()
+     */
+    public int valueAt(int i) {
+        return this.values[i];
+    }
+
+    /**
+     * @return the i-th neighbour, 0 <= i < size()
+     */
+    @SuppressWarnings("unchecked")
+    public N nodeAt(int i) {
+        return (N) this.nodes[i];
+    }
+
+    // ------------------------------------------
+    // 				Primitive methods
+    // ------------------------------------------
+
+    /**
+     * @return true if the node labelled label is a neighbour. Complexity: O(1) expected
+     */
+    public boolean containsLabel(int label) {
+        return this.find(label) >= 0;
+    }
+
+    /**
+     * @return the value of the link with the node labelled label, or absent if it is not a neighbour
+     */
+    public int getValue(int label, int absent) {
+        int pos = this.find(label);
+        return pos >= 0 ? this.values[pos] : absent;
+    }
+
+    /**
+     * Adds node as a neighbour with the given value. If it already is one, only the value is changed.
+     * @return true if node was not a neighbour yet
+     */
+    public boolean insert(N node, int value) {
+        int label = node.getLabel();
+        int pos = this.find(label);
+        if (pos >= 0) {
+            this.values[pos] = value;
+            return false;
+        }
+        if (this.size == this.labels.length) {
+            this.grow();
+        }
+        pos = this.size++;
+        this.labels[pos] = label;
+        this.values[pos] = value;
+        this.nodes[pos] = node;
+        this.index[this.emptySlotOf(label)] = pos + 1;
+        this.modCount++;
+        return true;
+    }
+
+    /**
+     * Removes the node labelled label from the neighbours, if it is one
+     * @return true if a neighbour was removed
+     */
+    public boolean removeLabel(int label) {
+        int pos = this.find(label);
+        if (pos < 0) {
+            return false;
+        }
+        this.removeAt(pos, this.slotOf(pos));
+        return true;
+    }
+
+    /**
+     * @return the position of label in the dense arrays, or -1
+     */
+    private int find(int label) {
+        if (this.index.length == 0) {
+            return -1;
+        }
+        int mask = this.index.length - 1;
+        int slot = hash(label) & mask;
+        int p;
+        while ((p = this.index[slot]) != 0) {
+            if (this.labels[p - 1] == label) {
+                return p - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * @return the first free slot of the probing sequence of label
+     */
+    private int emptySlotOf(int label) {
+        int mask = this.index.length - 1;
+        int slot = hash(label) & mask;
+        while (this.index[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * @return the slot of the table pointing to position pos
+     */
+    private int slotOf(int pos) {
+        int mask = this.index.length - 1;
+        int slot = hash(this.labels[pos]) & mask;
+        while (this.index[slot] != pos + 1) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Removes the entry at position pos, whose table slot is slot. The last entry takes its place.
+     */
+    private void removeAt(int pos, int slot) {
+        this.deleteSlot(slot);
+        int last = --this.size;
+        if (pos != last) {
+            this.index[this.slotOf(last)] = pos + 1;
+            this.labels[pos] = this.labels[last];
+            this.values[pos] = this.values[last];
+            this.nodes[pos] = this.nodes[last];
+        }
+        this.nodes[last] = null;
+        this.modCount++;
+    }
+
+    /**
+     * Empties a slot of the table and shifts back the following entries of the cluster,
+     * so that no probing sequence is broken (no tombstones are needed)
+     */
+    private void deleteSlot(int slot) {
+        int mask = this.index.length - 1;
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (this.index[next] != 0) {
+            int home = hash(this.labels[this.index[next] - 1]) & mask;
+            // the entry can move back to the hole if its home slot is not in (hole, next]
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                this.index[hole] = this.index[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        this.index[hole] = 0;
+    }
+
+    /**
+     * Doubles the dense arrays and the table (the table is kept at most half full)
+     */
+    private void grow() {
+        int capacity = Math.max(4, this.labels.length * 2);
+        int[] newLabels = new int[capacity];
+        int[] newValues = new int[capacity];
+        Object[] newNodes = new Object[capacity];
+        System.arraycopy(this.labels, 0, newLabels, 0, this.size);
+        System.arraycopy(this.values, 0, newValues, 0, this.size);
+        System.arraycopy(this.nodes, 0, newNodes, 0, this.size);
+        this.labels = newLabels;
+        this.values = newValues;
+        this.nodes = newNodes;
+        this.index = new int[capacity * 2];
+        for (int i = 0; i < this.size; i++) {
+            this.index[this.emptySlotOf(this.labels[i])] = i + 1;
+        }
+    }
+
+    private static int hash(int label) {
+        int h = label * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    // ------------------------------------------
+    // 				Map view
+    // ------------------------------------------
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof AbstractNode && this.containsLabel(((AbstractNode) key).getLabel());
+    }
+
+    @Override
+    public Integer get(Object key) {
+        if (!(key instanceof AbstractNode)) {
+            return null;
+        }
+        int pos = this.find(((AbstractNode) key).getLabel());
+        return pos >= 0 ? this.values[pos] : null;
+    }
+
+    @Override
+    public Integer put(N key, Integer value) {
+        int pos = this.find(key.getLabel());
+        Integer old = pos >= 0 ? this.values[pos] : null;
+        this.insert(key, value);
+        return old;
+    }
+
+    @Override
+    public Integer remove(Object key) {
+        if (!(key instanceof AbstractNode)) {
+            return null;
+        }
+        int pos = this.find(((AbstractNode) key).getLabel());
+        if (pos < 0) {
+            return null;
+        }
+        int old = this.values[pos];
+        this.removeAt(pos, this.slotOf(pos));
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < this.size; i++) {
+            this.nodes[i] = null;
+        }
+        Arrays.fill(this.index, 0);
+        this.size = 0;
+        this.modCount++;
+    }
+
+    @Override
+    public Set<Map.Entry<N, Integer>> entrySet() {
+        return new AbstractSet<Map.Entry<N, Integer>>() {
+            @Override
+            public Iterator<Map.Entry<N, Integer>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return NeighbourMap.this.size;
+            }
+        };
+    }
+
+    private class EntryIterator implements Iterator<Map.Entry<N, Integer>> {
+        private int cursor = 0;
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return this.cursor < size;
+        }
+
+        @Override
+        public Map.Entry<N, Integer> next() {
+            if (modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (this.cursor >= size) {
+                throw new NoSuchElementException();
+            }
+            this.lastReturned = this.cursor++;
+            return new Entry(this.lastReturned);
+        }
+
+        @Override
+        public void remove() {
+            if (this.lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(this.lastReturned, slotOf(this.lastReturned));
+            // the last entry has been moved to lastReturned, it still has to be visited
+            this.cursor = this.lastReturned;
+            this.lastReturned = -1;
+            this.expectedModCount = modCount;
+        }
+    }
+
+    private class Entry implements Map.Entry<N, Integer> {
+        private final N key;
+        private int value;
+
+        Entry(int pos) {
+            this.key = nodeAt(pos);
+            this.value = values[pos];
+        }
+
+        @Override
+        public N getKey() {
+            return this.key;
+        }
+
+        @Override
+        public Integer getValue() {
+            return this.value;
+        }
+
+        @Override
+        public Integer setValue(Integer value) {
+            int old = this.value;
+            this.value = value;
+            int pos = find(this.key.getLabel());
+            if (pos >= 0) {
+                values[pos] = value;
+            }
+            return old;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+            return this.getKey().equals(e.getKey()) && this.getValue().equals(e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return this.getKey().hashCode() ^ this.getValue().hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return this.getKey() + "=" + this.getValue();
+        }
+    }
+}
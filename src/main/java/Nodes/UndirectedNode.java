@@ -1,6 +1,5 @@
 package Nodes;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -12,7 +11,7 @@ public class UndirectedNode extends AbstractNode {
     // 				Class variables
     //--------------------------------------------------
 
-    private Map<UndirectedNode, Integer> neighbours;
+    private NeighbourMap<UndirectedNode> neighbours;
 
     //--------------------------------------------------
     // 				Constructors
@@ -20,7 +19,7 @@ public class UndirectedNode extends AbstractNode {
 
     public UndirectedNode(int i) {
         super(i);
-        this.neighbours = new LinkedHashMap<>();
+        this.neighbours = new NeighbourMap<>();
     }
 
     // ------------------------------------------
@@ -28,9 +27,9 @@ public class UndirectedNode extends AbstractNode {
     // ------------------------------------------
 
     /**
-     * @return the list of neighbors of the current node this
+     * @return the list of neighbors of the current node this, keyed by label
      */
-    public Map<UndirectedNode, Integer> getNeighbours() {
+    public NeighbourMap<UndirectedNode> getNeighbours() {
         return neighbours;
     }
 
@@ -38,7 +37,7 @@ public class UndirectedNode extends AbstractNode {
      * @param neigh the new list of neighbors for node this
      */
     public void setNeighbours(Map<UndirectedNode, Integer> neigh) {
-		this.neighbours = neigh;
+		this.neighbours = neigh instanceof NeighbourMap ? (NeighbourMap<UndirectedNode>) neigh : new NeighbourMap<>(neigh);
 	}
 
     /**
@@ -52,7 +51,7 @@ public class UndirectedNode extends AbstractNode {
 	 * add a new neighbour with its value cost. If the neighbour exists, the weight is changed.
 	 */
 	public void addNeigh(UndirectedNode v, int val) {
-		this.neighbours.put(v, val);
+		this.neighbours.insert(v, val);
 	}
 
 }